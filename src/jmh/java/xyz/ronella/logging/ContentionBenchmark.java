@@ -0,0 +1,69 @@
+package xyz.ronella.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The throughput of a LoggerPlus and its GroupLogger shared by 1, 4, 16 and 64 threads.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    private LoggerPlus loggerPlus;
+
+    @Setup
+    public void setUp() {
+        loggerPlus = new LoggerPlus(new NoOpLogger(Level.DEBUG));
+    }
+
+    private void log() {
+        loggerPlus.debug("Hello %s", "world");
+        try (var gLOG = loggerPlus.groupLog("contention")) {
+            gLOG.debug("Hello %d", 42);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads1() {
+        log();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads4() {
+        log();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void threads16() {
+        log();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void threads64() {
+        log();
+    }
+}
@@ -0,0 +1,66 @@
+package xyz.ronella.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of opening, logging through and closing a GroupLogger.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupLoggerBenchmark {
+
+    @Param({"DEBUG", "INFO"})
+    public Level backendLevel;
+
+    private LoggerPlus loggerPlus;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        loggerPlus = new LoggerPlus(new NoOpLogger(backendLevel));
+        text = "world";
+    }
+
+    @Benchmark
+    public void withHeader() {
+        try (var gLOG = loggerPlus.groupLog("withHeader")) {
+            gLOG.debug("Hello %s", text);
+        }
+    }
+
+    @Benchmark
+    public void withoutHeader() {
+        try (var gLOG = loggerPlus.groupLog("withoutHeader", false)) {
+            gLOG.debug("Hello %s", text);
+        }
+    }
+
+    @Benchmark
+    public void buffered() {
+        try (var gLOG = loggerPlus.groupLog("buffered", LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+            gLOG.debug("Hello %s", text);
+            gLOG.debug("Bye %s", text);
+        }
+    }
+}
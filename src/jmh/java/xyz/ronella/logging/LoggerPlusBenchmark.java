@@ -0,0 +1,76 @@
+package xyz.ronella.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of each LoggerPlus overload family at an enabled and a disabled level.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerPlusBenchmark {
+
+    @Param({"DEBUG", "INFO"})
+    public Level backendLevel;
+
+    private LoggerPlus loggerPlus;
+
+    private int counter;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        loggerPlus = new LoggerPlus(new NoOpLogger(backendLevel));
+        text = "world";
+    }
+
+    @Benchmark
+    public void stringMessage() {
+        loggerPlus.debug("Hello world");
+    }
+
+    @Benchmark
+    public void supplierMessage() {
+        loggerPlus.debug(() -> "Hello " + text);
+    }
+
+    @Benchmark
+    public void formatOneValue() {
+        loggerPlus.debug("Hello %s", text);
+    }
+
+    @Benchmark
+    public void formatPrimitive() {
+        loggerPlus.debug("Count %d", counter++);
+    }
+
+    @Benchmark
+    public void formatVarargs() {
+        loggerPlus.debug("Hello %s %s %d %s %s", text, text, counter++, text, text);
+    }
+
+    @Benchmark
+    public void formatPlaceholders() {
+        loggerPlus.debug("Hello {} {}", text, counter++);
+    }
+}
@@ -0,0 +1,73 @@
+package xyz.ronella.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+/**
+ * A Logger that only keeps the length of the last message, so the benchmarks measure the cost of LoggerPlus alone.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class NoOpLogger extends LegacyAbstractLogger {
+
+    private static final long serialVersionUID = 1L;
+
+    final private int threshold;
+
+    private int lastLength;
+
+    /**
+     * Creates an instance of NoOpLogger.
+     * @param level The most verbose level enabled.
+     */
+    public NoOpLogger(final Level level) {
+        this.name = "NoOpLogger";
+        this.threshold = level.toInt();
+    }
+
+    /**
+     * The length of the last message.
+     * @return The length.
+     */
+    public int getLastLength() {
+        return lastLength;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return Level.TRACE.toInt() >= threshold;
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.toInt() >= threshold;
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return Level.INFO.toInt() >= threshold;
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return Level.WARN.toInt() >= threshold;
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return Level.ERROR.toInt() >= threshold;
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern,
+                                               final Object[] arguments, final Throwable throwable) {
+        lastLength = null==messagePattern ? 0 : messagePattern.length();
+    }
+}
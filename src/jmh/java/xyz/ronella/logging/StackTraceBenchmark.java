@@ -0,0 +1,56 @@
+package xyz.ronella.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of getStackTraceAsString at several stack trace depths.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackTraceBenchmark {
+
+    @Param({"8", "64", "256"})
+    public int depth;
+
+    private LoggerPlus loggerPlus;
+
+    private Exception exception;
+
+    @Setup
+    public void setUp() {
+        loggerPlus = new LoggerPlus(new NoOpLogger(Level.INFO));
+        exception = failure(depth);
+    }
+
+    private static Exception failure(final int depth) {
+        if (depth <= 1) {
+            return new IllegalStateException("Failure", new IllegalArgumentException("Cause"));
+        }
+        return failure(depth - 1);
+    }
+
+    @Benchmark
+    public String stackTrace() {
+        return loggerPlus.getStackTraceAsString(exception);
+    }
+}
@@ -6,5 +6,9 @@ module xyz.ronella.logging.logger.plus {
 
     requires java.scripting;
 
+    requires java.management;
+
+    requires jdk.jfr;
+
     exports xyz.ronella.logging;
 }
\ No newline at end of file
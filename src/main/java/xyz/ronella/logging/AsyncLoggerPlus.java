@@ -0,0 +1,239 @@
+package xyz.ronella.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A LoggerPlus that hands the messages to a dedicated thread before passing them to the logger.
+ *
+ * <p>The level checks and the message rendering still happen on the calling thread. Only the call to the logger
+ * is moved to the drainer thread, hence the thread name seen by the logger is the drainer's. For the same reason,
+ * the time spent in the logger is measured on the drainer thread. The metrics count it but the call-site profiler
+ * only sees the time spent on the calling thread.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class AsyncLoggerPlus extends LoggerPlus implements AutoCloseable {
+
+    /**
+     * The default number of events the ring buffer can hold.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * The default maximum number of events passed to the logger per drain.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * What to do when the ring buffer is full.
+     *
+     * @author Ron Webb
+     * @since 1.3.0
+     */
+    public enum Backpressure {
+        /**
+         * Wait until the drainer makes room.
+         */
+        BLOCK,
+        /**
+         * Discard the message being logged.
+         */
+        DROP_NEWEST,
+        /**
+         * Discard the message being logged if it is less severe than the drop level, otherwise wait.
+         */
+        DROP_BY_LEVEL
+    }
+
+    final private EventRing ring;
+
+    final private int batchSize;
+
+    final private Backpressure backpressure;
+
+    final private Level dropLevel;
+
+    final private LongAdder dropped = new LongAdder();
+
+    final private Thread drainer;
+
+    final private Thread shutdownHook;
+
+    final private EventRing.EventHandler handler = super::emit;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates an instance of AsyncLoggerPlus that blocks when the ring buffer is full.
+     * @param logger Accepts an instance of Logger.
+     */
+    public AsyncLoggerPlus(final Logger logger) {
+        this(logger, DEFAULT_CAPACITY, Backpressure.BLOCK);
+    }
+
+    /**
+     * Creates an instance of AsyncLoggerPlus. The DROP_BY_LEVEL backpressure discards the messages below WARN.
+     * @param logger Accepts an instance of Logger.
+     * @param capacity The number of events the ring buffer can hold.
+     * @param backpressure What to do when the ring buffer is full.
+     */
+    public AsyncLoggerPlus(final Logger logger, final int capacity, final Backpressure backpressure) {
+        this(logger, capacity, DEFAULT_BATCH_SIZE, backpressure, Level.WARN);
+    }
+
+    /**
+     * Creates an instance of AsyncLoggerPlus.
+     * @param logger Accepts an instance of Logger.
+     * @param capacity The number of events the ring buffer can hold.
+     * @param batchSize The maximum number of events passed to the logger per drain.
+     * @param backpressure What to do when the ring buffer is full.
+     * @param dropLevel The least severe level that is never discarded by the DROP_BY_LEVEL backpressure.
+     */
+    public AsyncLoggerPlus(final Logger logger, final int capacity, final int batchSize,
+                           final Backpressure backpressure, final Level dropLevel) {
+        super(logger);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive.");
+        }
+        this.ring = new EventRing(capacity);
+        this.batchSize = batchSize;
+        this.backpressure = backpressure;
+        this.dropLevel = dropLevel;
+        this.drainer = new Thread(this::drainLoop, "logger-plus-async-" + logger.getName());
+        this.drainer.setDaemon(true);
+        this.shutdownHook = new Thread(this::close, "logger-plus-async-shutdown-" + logger.getName());
+        this.drainer.start();
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    void emit(final Level level, final String message) {
+        emit(level, message, null);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues) {
+        emit(level, message, keyValues, null);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if (closed) {
+            super.emit(level, message, keyValues, throwable);
+            return;
+        }
+
+        while (!ring.offer(level, message, keyValues, throwable)) {
+            if (backpressure == Backpressure.DROP_NEWEST
+                    || (backpressure == Backpressure.DROP_BY_LEVEL && level.toInt() < dropLevel.toInt())) {
+                dropped.increment();
+                return;
+            }
+            if (closed) {
+                super.emit(level, message, keyValues, throwable);
+                return;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        if (closed) {
+            drainAll();
+        }
+    }
+
+    private void drainLoop() {
+        while (!closed) {
+            if (drainBatch() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private int drainBatch() {
+        synchronized (ring) {
+            try {
+                return ring.drain(handler, batchSize);
+            } catch (RuntimeException exception) {
+                InternalErrors.report("Cannot pass a message to the logger, the message is skipped.", exception);
+                return 1;
+            }
+        }
+    }
+
+    /**
+     * Drains on the calling thread. Used when the drainer is gone or closing, hence a message offered while
+     * closing is never left in the ring.
+     */
+    private void drainAll() {
+        unattributed(() -> {
+            while (drainBatch() > 0) {
+                // Drain on the calling thread.
+            }
+        });
+    }
+
+    /**
+     * Waits until every message logged before this call was passed to the logger.
+     */
+    public void flush() {
+        final var target = ring.produced();
+        while (ring.consumed() < target) {
+            if (!drainer.isAlive()) {
+                drainAll();
+                return;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+    }
+
+    /**
+     * The number of messages discarded because the ring buffer was full.
+     * @return The discarded message count.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Passes the pending messages to the logger and stops the drainer thread.
+     * Messages logged afterwards are passed to the logger on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(drainer);
+        if (Thread.currentThread() != drainer) {
+            try {
+                drainer.join();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drainAll();
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException shutdownInProgress) {
+                // The hook is already running.
+            }
+        }
+    }
+}
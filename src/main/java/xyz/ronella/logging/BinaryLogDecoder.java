@@ -0,0 +1,159 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the segments written by a BinaryLogWriter back into text lines.
+ *
+ * <p>Each line holds the time in epoch milliseconds, the level, the thread id and the formatted message. Run it from
+ * the command line with the segment files or the directories holding them as arguments. An event whose values do not
+ * match its format is written with the raw format and values instead. The segments of several runs are decoded
+ * together, since an event only uses the definitions written after the same run marker.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public final class BinaryLogDecoder {
+
+    private static final Level[] LEVELS = Level.values();
+
+    private BinaryLogDecoder() {}
+
+    /**
+     * Decodes the segments to the standard output.
+     * @param args The segment files or the directories holding them.
+     * @throws IOException When a segment cannot be read.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: BinaryLogDecoder <segment file or directory> ...");
+            return;
+        }
+        final var files = new ArrayList<Path>();
+        for (final var arg : args) {
+            final var path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (var children = Files.list(path)) {
+                    children.filter(Files::isRegularFile).sorted().forEach(files::add);
+                }
+            }
+            else {
+                files.add(path);
+            }
+        }
+        decode(files, System.out);
+    }
+
+    /**
+     * Decodes the segments in the order given.
+     * @param files The segment files.
+     * @param out Where the text lines are written.
+     * @throws IOException When a segment cannot be read.
+     */
+    public static void decode(final List<Path> files, final PrintStream out) throws IOException {
+        final var segments = new ArrayList<ByteBuffer>(files.size());
+        for (final var file : files) {
+            segments.add(ByteBuffer.wrap(Files.readAllBytes(file)));
+        }
+
+        final var formats = new HashMap<Long, String>();
+        var run = 0;
+        for (final var segment : segments) {
+            run = read(segment.duplicate(), run, formats, null);
+        }
+        run = 0;
+        for (final var segment : segments) {
+            run = read(segment.duplicate(), run, formats, out);
+        }
+    }
+
+    private static long key(final int run, final int id) {
+        return ((long) run << Integer.SIZE) | (id & 0xFFFFFFFFL);
+    }
+
+    private static int read(final ByteBuffer buffer, final int firstRun, final Map<Long, String> formats,
+                            final PrintStream out) {
+        var run = firstRun;
+        try {
+            while (buffer.hasRemaining()) {
+                final var type = buffer.get();
+                if (type == BinaryLogWriter.RUN) {
+                    buffer.getLong();
+                    run++;
+                }
+                else if (type == BinaryLogWriter.DEFINITION) {
+                    final var id = buffer.getInt();
+                    final var format = getString(buffer);
+                    if (null==out) {
+                        formats.put(key(run, id), format);
+                    }
+                }
+                else if (type == BinaryLogWriter.EVENT) {
+                    final var level = LEVELS[buffer.get()];
+                    final var id = buffer.getInt();
+                    final var millis = buffer.getLong();
+                    final var threadId = buffer.getLong();
+                    final var values = new Object[buffer.get()];
+                    for (var index = 0; index < values.length; index++) {
+                        values[index] = getValue(buffer);
+                    }
+                    if (null!=out) {
+                        out.println(millis + " " + level + " [" + threadId + "] "
+                                + message(formats.get(key(run, id)), id, values));
+                    }
+                }
+                else {
+                    break;
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException truncated) {
+            // The rest of the segment was cut off.
+        }
+        return run;
+    }
+
+    private static String message(final String format, final int id, final Object[] values) {
+        if (null==format) {
+            return "<unknown format " + id + "> " + Arrays.toString(values);
+        }
+        try {
+            return MessageTemplate.format(format, values);
+        } catch (RuntimeException mismatch) {
+            return "<unformattable> " + format + " " + Arrays.toString(values);
+        }
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Object getValue(final ByteBuffer buffer) {
+        return switch (buffer.get()) {
+            case BinaryLogWriter.STRING -> getString(buffer);
+            case BinaryLogWriter.INT -> buffer.getInt();
+            case BinaryLogWriter.LONG -> buffer.getLong();
+            case BinaryLogWriter.DOUBLE -> Double.longBitsToDouble(buffer.getLong());
+            case BinaryLogWriter.BOOLEAN -> buffer.get() != 0;
+            case BinaryLogWriter.CHAR -> (char) buffer.getInt();
+            case BinaryLogWriter.BYTE -> buffer.get();
+            case BinaryLogWriter.SHORT -> (short) buffer.getInt();
+            case BinaryLogWriter.FLOAT -> Float.intBitsToFloat(buffer.getInt());
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,256 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the log events in a compact binary encoding to a MappedFileSink, leaving the formatting to the
+ * BinaryLogDecoder.
+ *
+ * <p>Each format is written once as a definition with a numeric id. An event only holds the id, the time, the
+ * thread id and the raw values. The values that are not String, boxed primitives or null are rendered on the
+ * calling thread, since they may change before they are decoded. The ids are only unique within a writer, hence
+ * each writer starts with a run marker and the decoder matches an event with the definition of the same run.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class BinaryLogWriter implements AutoCloseable {
+
+    static final byte END = 0;
+
+    static final byte DEFINITION = 1;
+
+    static final byte EVENT = 2;
+
+    static final byte RUN = 3;
+
+    static final byte NULL = 0;
+
+    static final byte STRING = 1;
+
+    static final byte INT = 2;
+
+    static final byte LONG = 3;
+
+    static final byte DOUBLE = 4;
+
+    static final byte BOOLEAN = 5;
+
+    static final byte CHAR = 6;
+
+    static final byte BYTE = 7;
+
+    static final byte SHORT = 8;
+
+    static final byte FLOAT = 9;
+
+    static final String MESSAGE_FORMAT = "%s";
+
+    private static final int BUFFER_CAPACITY = 256;
+
+    private static final int BUFFER_LIMIT = 64 * 1024;
+
+    private static final ThreadLocal<Encoder> ENCODERS = ThreadLocal.withInitial(Encoder::new);
+
+    final private MappedFileSink sink;
+
+    final private Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    final private AtomicInteger nextId = new AtomicInteger();
+
+    private static final class Encoder {
+        private byte[] bytes = new byte[BUFFER_CAPACITY];
+        private int length;
+
+        private void ensure(final int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+
+        private void putByte(final int value) {
+            ensure(1);
+            bytes[length++] = (byte) value;
+        }
+
+        private void putInt(final int value) {
+            ensure(Integer.BYTES);
+            for (var shift = 24; shift >= 0; shift -= 8) {
+                bytes[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void putLong(final long value) {
+            ensure(Long.BYTES);
+            for (var shift = 56; shift >= 0; shift -= 8) {
+                bytes[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void putString(final String value) {
+            final var encoded = value.getBytes(StandardCharsets.UTF_8);
+            putInt(encoded.length);
+            ensure(encoded.length);
+            System.arraycopy(encoded, 0, bytes, length, encoded.length);
+            length += encoded.length;
+        }
+    }
+
+    /**
+     * Creates an instance of BinaryLogWriter.
+     * @param sink The sink of the encoded events.
+     */
+    public BinaryLogWriter(final MappedFileSink sink) {
+        this.sink = sink;
+        final var run = new Encoder();
+        run.putByte(RUN);
+        run.putLong(System.currentTimeMillis());
+        sink.append(run.bytes, run.length);
+    }
+
+    /**
+     * Writes a message without formatting.
+     * @param level The level of the message.
+     * @param message The message.
+     * @return false if the sink is closed or failed.
+     */
+    public boolean write(final Level level, final String message) {
+        return write(level, null, MESSAGE_FORMAT, message);
+    }
+
+    /**
+     * Writes a message to be formatted by the decoder.
+     * @param level The level of the message.
+     * @param prefix The text before the formatted message. Null if none.
+     * @param format The format for the message.
+     * @param values The values of the message.
+     * @return false if the sink is closed or failed.
+     */
+    public boolean write(final Level level, final String prefix, final String format, final Object ... values) {
+        if (!isEncodable(values)) {
+            final var message = null==prefix ? MessageTemplate.format(format, values)
+                    : MessageTemplate.formatPrefixed(prefix, format, values);
+            return write(level, null, MESSAGE_FORMAT, message);
+        }
+
+        final var key = null==prefix ? String.valueOf(format) : prefix.replace("%", "%%").concat(String.valueOf(format));
+        var id = ids.get(key);
+        if (null==id) {
+            id = define(key);
+        }
+
+        final var encoder = ENCODERS.get();
+        encoder.length = 0;
+        encoder.putByte(EVENT);
+        encoder.putByte(level.ordinal());
+        encoder.putInt(id);
+        encoder.putLong(System.currentTimeMillis());
+        encoder.putLong(Thread.currentThread().getId());
+        final var count = null==values ? 0 : values.length;
+        encoder.putByte(count);
+        for (var index = 0; index < count; index++) {
+            encode(encoder, values[index]);
+        }
+        final var written = sink.append(encoder.bytes, encoder.length);
+        if (encoder.bytes.length > BUFFER_LIMIT) {
+            encoder.bytes = new byte[BUFFER_CAPACITY];
+        }
+        return written;
+    }
+
+    private int define(final String key) {
+        final var created = new boolean[1];
+        final var id = ids.computeIfAbsent(key, ___key -> {
+            created[0] = true;
+            return nextId.incrementAndGet();
+        });
+        if (created[0]) {
+            final var definition = new Encoder();
+            definition.putByte(DEFINITION);
+            definition.putInt(id);
+            definition.putString(key);
+            sink.append(definition.bytes, definition.length);
+        }
+        return id;
+    }
+
+    private static boolean isEncodable(final Object[] values) {
+        if (null!=values) {
+            if (values.length > Byte.MAX_VALUE) {
+                return false;
+            }
+            for (final var value : values) {
+                if (!(null==value || value instanceof String || value instanceof Integer || value instanceof Long
+                        || value instanceof Double || value instanceof Boolean || value instanceof Character
+                        || value instanceof Byte || value instanceof Short || value instanceof Float)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void encode(final Encoder encoder, final Object value) {
+        if (null==value) {
+            encoder.putByte(NULL);
+        }
+        else if (value instanceof String text) {
+            encoder.putByte(STRING);
+            encoder.putString(text);
+        }
+        else if (value instanceof Integer number) {
+            encoder.putByte(INT);
+            encoder.putInt(number);
+        }
+        else if (value instanceof Long number) {
+            encoder.putByte(LONG);
+            encoder.putLong(number);
+        }
+        else if (value instanceof Double number) {
+            encoder.putByte(DOUBLE);
+            encoder.putLong(Double.doubleToRawLongBits(number));
+        }
+        else if (value instanceof Boolean flag) {
+            encoder.putByte(BOOLEAN);
+            encoder.putByte(flag ? 1 : 0);
+        }
+        else if (value instanceof Character character) {
+            encoder.putByte(CHAR);
+            encoder.putInt(character);
+        }
+        else if (value instanceof Byte number) {
+            encoder.putByte(BYTE);
+            encoder.putByte(number);
+        }
+        else if (value instanceof Short number) {
+            encoder.putByte(SHORT);
+            encoder.putInt(number);
+        }
+        else {
+            encoder.putByte(FLOAT);
+            encoder.putInt(Float.floatToRawIntBits((Float) value));
+        }
+    }
+
+    /**
+     * The number of formats defined so far.
+     * @return The format count.
+     */
+    public int getFormatCount() {
+        return ids.size();
+    }
+
+    /**
+     * Closes the sink.
+     */
+    @Override
+    public void close() {
+        sink.close();
+    }
+}
@@ -0,0 +1,66 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+
+/**
+ * A LoggerPlus that writes the enabled messages to a BinaryLogWriter instead of the logger, leaving the formatting
+ * to the BinaryLogDecoder.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+class BinaryLoggerPlus extends LoggerPlus {
+
+    final private BinaryLogWriter writer;
+
+    /**
+     * Creates an instance of BinaryLoggerPlus.
+     * @param parent The LoggerPlus that decides which levels are enabled.
+     * @param writer The writer of the messages.
+     */
+    BinaryLoggerPlus(final LoggerPlus parent, final BinaryLogWriter writer) {
+        super(parent);
+        this.writer = writer;
+    }
+
+    @Override
+    void emit(final Level level, final String message) {
+        writer.write(level, message);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues) {
+        emit(level, message, keyValues, null);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if ((null==keyValues || keyValues.isEmpty()) && null==throwable) {
+            writer.write(level, message);
+            return;
+        }
+        final var line = new StringBuilder(String.valueOf(message));
+        if (null!=keyValues) {
+            for (final var keyValue : keyValues) {
+                line.append(' ').append(keyValue.key).append('=').append(keyValue.value);
+            }
+        }
+        if (null!=throwable) {
+            line.append(System.lineSeparator()).append(getStackTraceAsString(throwable));
+        }
+        writer.write(level, line.toString());
+    }
+
+    @Override
+    void emitFormatted(final Level level, final String prefix, final String format, final Object ... values) {
+        if (null!=MessageTemplate.trailingThrowable(format, values)) {
+            super.emitFormatted(level, prefix, format, values);
+            return;
+        }
+        writer.write(level, prefix, format, values);
+    }
+}
@@ -0,0 +1,190 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Formattable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A LoggerPlus that limits the length of the messages and of each value of the formatted messages.
+ *
+ * <p>A CharSequence, an array, a collection or a map longer than the value limit is rendered element by element
+ * only until the limit is reached and ends with a marker of what was left out <i>(e.g. &hellip;(+120 more))</i>.
+ * Any other value is rendered by its toString and then cut. The numbers, characters, booleans and throwables are left as is.
+ * A message longer than the message limit is cut the same way before it is passed to the logger.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+class BoundedLoggerPlus extends LoggerPlus {
+
+    /**
+     * The start of the marker of what was left out.
+     */
+    static final String ELLIPSIS = "\u2026(+";
+
+    final private int maxMessageLength;
+
+    final private int maxValueLength;
+
+    /**
+     * Creates an instance of BoundedLoggerPlus.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param maxMessageLength The maximum number of characters of a message before the marker.
+     * @param maxValueLength The maximum number of characters of a value before the marker.
+     */
+    BoundedLoggerPlus(final LoggerPlus parent, final int maxMessageLength, final int maxValueLength) {
+        super(parent);
+        if (maxMessageLength < 1 || maxValueLength < 1) {
+            throw new IllegalArgumentException("The maximum lengths must be positive.");
+        }
+        this.maxMessageLength = maxMessageLength;
+        this.maxValueLength = maxValueLength;
+    }
+
+    @Override
+    int messageLimit() {
+        return Math.min(maxMessageLength, super.messageLimit());
+    }
+
+    @Override
+    void emit(final Level level, final String message) {
+        super.emit(level, cut(message, maxMessageLength));
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues) {
+        super.emit(level, cut(message, maxMessageLength), keyValues);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        super.emit(level, cut(message, maxMessageLength), keyValues, throwable);
+    }
+
+    @Override
+    void emitFormatted(final Level level, final String prefix, final String format, final Object ... values) {
+        super.emitFormatted(level, prefix, format, boundAll(values, maxValueLength));
+    }
+
+    @Override
+    String formattedMessage(final Level level, final String format, final Object ... values) {
+        return super.formattedMessage(level, format, boundAll(values, maxValueLength));
+    }
+
+    /**
+     * Replaces the values longer than the limit by their bounded rendering.
+     * @param values The values of a message.
+     * @param limit The maximum number of characters of a value before the marker.
+     * @return The same array if no value was replaced.
+     */
+    static Object[] boundAll(final Object[] values, final int limit) {
+        if (null==values) {
+            return null;
+        }
+        Object[] bounded = values;
+        for (var index = 0; index < values.length; index++) {
+            final var value = values[index];
+            final var replacement = bound(value, limit);
+            if (replacement != value) {
+                if (bounded == values) {
+                    bounded = values.clone();
+                }
+                bounded[index] = replacement;
+            }
+        }
+        return bounded;
+    }
+
+    /**
+     * The bounded rendering of a value.
+     * @param value The value.
+     * @param limit The maximum number of characters before the marker.
+     * @return The value itself if it is left as is or short enough, otherwise its bounded rendering.
+     */
+    static Object bound(final Object value, final int limit) {
+        if (null==value || value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Throwable || value instanceof Formattable) {
+            return value;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() <= limit ? value : cut(text, limit);
+        }
+        if (value.getClass().isArray()) {
+            final var builder = new StringBuilder(Math.min(limit, 64) + 16).append('[');
+            final var length = Array.getLength(value);
+            for (var index = 0; index < length; index++) {
+                if (!appendElement(builder, Array.get(value, index), index, limit)) {
+                    return builder.append(ELLIPSIS).append(length - index).append(" more)]").toString();
+                }
+            }
+            return builder.append(']').toString();
+        }
+        if (value instanceof Collection<?> collection) {
+            return elements(collection.iterator(), collection.size(), '[', ']', limit);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return elements(map.entrySet().iterator(), map.size(), '{', '}', limit);
+        }
+        final var text = String.valueOf(value);
+        return text.length() <= limit ? text : cut(text, limit);
+    }
+
+    private static String elements(final Iterator<?> iterator, final int size, final char open, final char close,
+                                   final int limit) {
+        final var builder = new StringBuilder(Math.min(limit, 64) + 16).append(open);
+        var index = 0;
+        while (iterator.hasNext()) {
+            var element = iterator.next();
+            if (element instanceof Map.Entry<?, ?> entry) {
+                element = String.valueOf(bound(entry.getKey(), limit)) + '=' + bound(entry.getValue(), limit);
+            }
+            if (!appendElement(builder, element, index, limit)) {
+                return builder.append(ELLIPSIS).append(size - index).append(" more)").append(close).toString();
+            }
+            index++;
+        }
+        return builder.append(close).toString();
+    }
+
+    private static boolean appendElement(final StringBuilder builder, final Object element, final int index,
+                                         final int limit) {
+        final var remaining = limit - (builder.length() - 1) - (index > 0 ? 2 : 0);
+        if (remaining <= 0) {
+            return false;
+        }
+        final var rendered = String.valueOf(bound(element, remaining));
+        if (rendered.length() > remaining) {
+            return false;
+        }
+        if (index > 0) {
+            builder.append(", ");
+        }
+        builder.append(rendered);
+        return true;
+    }
+
+    /**
+     * Cuts a text longer than the limit and appends the number of characters left out.
+     * @param text The text.
+     * @param limit The maximum number of characters before the marker.
+     * @return The text itself if short enough.
+     */
+    static String cut(final CharSequence text, final int limit) {
+        if (null==text) {
+            return null;
+        }
+        final var length = text.length();
+        if (length <= limit) {
+            return text.toString();
+        }
+        return new StringBuilder(limit + 24).append(text, 0, limit).append(ELLIPSIS).append(length - limit)
+                .append(" more)").toString();
+    }
+}
@@ -0,0 +1,335 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * The noisiest log statements of a LoggerPlus, counted per template without walking the stack.
+ *
+ * <p>A statement is identified by its level and its message or format, the class of its supplier or the name of
+ * its group. The statements are tracked in a fixed-size lock-free table. When the slots a statement may take are
+ * all used, it takes the slot of the least counted one and inherits its count <i>(i.e. the error)</i>, hence the
+ * most counted statements stay while the rare ones come and go. The characters and the time spent formatting and
+ * in the logger are added to the statement admitted on the same thread, until its message is passed to the
+ * logger. The messages the LoggerPlus logs by itself <i>(e.g. the summaries)</i> are not added to any statement.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class CallSiteProfiler {
+
+    /**
+     * The default number of statements tracked.
+     */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private static final int PROBES = 8;
+
+    /**
+     * What identifies a log statement.
+     */
+    public enum Kind {
+        /**
+         * The message or the format.
+         */
+        TEMPLATE,
+        /**
+         * The class of the supplier or of the block.
+         */
+        CLASS,
+        /**
+         * The group name of a GroupLogger.
+         */
+        GROUP
+    }
+
+    /**
+     * The counters of a log statement at the time of a snapshot.
+     *
+     * @param kind What identifies the statement.
+     * @param key The message, the format, the class name or the group name.
+     * @param level The level of the statement.
+     * @param count The number of messages, including the inherited error.
+     * @param error The count inherited from the statement whose slot was taken.
+     * @param characters The number of characters passed to the logger.
+     * @param nanos The time spent formatting and in the logger.
+     */
+    public record Site(Kind kind, String key, Level level, long count, long error, long characters, long nanos) {}
+
+    private static final class Entry {
+        private final int slot;
+        private final Kind kind;
+        private final Object site;
+        private final Level level;
+        private final int hash;
+        private final long error;
+        private final AtomicLong count;
+        private final AtomicLong characters = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+
+        private Entry(final int slot, final Kind kind, final Object site, final Level level, final int hash,
+                      final long error) {
+            this.slot = slot;
+            this.kind = kind;
+            this.site = site;
+            this.level = level;
+            this.hash = hash;
+            this.error = error;
+            this.count = new AtomicLong(error);
+        }
+
+        private boolean isSame(final Kind kind, final Object site, final Level level, final int hash) {
+            return this.hash == hash && this.level == level && this.kind == kind
+                    && (this.site == site || this.site.equals(site));
+        }
+
+        private Site snapshot() {
+            final var key = site instanceof Class<?> clazz ? clazz.getName() : String.valueOf(site);
+            return new Site(kind, key, level, count.get(), error, characters.get(), nanos.get());
+        }
+    }
+
+    final private int mask;
+
+    final private AtomicReferenceArray<Entry> table;
+
+    final private ThreadLocal<Entry> current = new ThreadLocal<>();
+
+    final private ThreadLocal<Entry> pinned = new ThreadLocal<>();
+
+    /**
+     * Creates an instance of CallSiteProfiler.
+     * @param capacity The number of statements tracked. Rounded up to a power of two.
+     */
+    CallSiteProfiler(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        final var size = Integer.highestOneBit(capacity) == capacity ? capacity
+                : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.table = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Counts a message of a log statement admitted on the current thread.
+     * @param level The level of the message.
+     * @param site The message, the format or the class of the supplier.
+     */
+    void begin(final Level level, final Object site) {
+        begin(level, site, site instanceof Class<?> ? Kind.CLASS : Kind.TEMPLATE);
+    }
+
+    /**
+     * Counts a message of a log statement admitted on the current thread.
+     * @param level The level of the message.
+     * @param site What identifies the statement.
+     * @param kind The kind of the site.
+     */
+    void begin(final Level level, final Object site, final Kind kind) {
+        if (null==site) {
+            return;
+        }
+        final var hash = 31 * (31 * kind.ordinal() + level.ordinal()) + site.hashCode();
+        final var start = hash ^ (hash >>> 16);
+        final var probes = Math.min(PROBES, table.length());
+        Entry entry = null;
+        for (var attempt = 0; attempt < 2 && null==entry; attempt++) {
+            var victim = -1;
+            Entry least = null;
+            for (var probe = 0; probe < probes; probe++) {
+                final var index = (start + probe) & mask;
+                final var slot = table.get(index);
+                if (null==slot) {
+                    final var created = new Entry(index, kind, site, level, hash, 0);
+                    if (table.compareAndSet(index, null, created)) {
+                        entry = created;
+                        break;
+                    }
+                    final var raced = table.get(index);
+                    if (null!=raced && raced.isSame(kind, site, level, hash)) {
+                        entry = raced;
+                        break;
+                    }
+                    continue;
+                }
+                if (slot.isSame(kind, site, level, hash)) {
+                    entry = slot;
+                    break;
+                }
+                if (null==least || slot.count.get() < least.count.get()) {
+                    least = slot;
+                    victim = index;
+                }
+            }
+            if (null==entry && null!=least) {
+                final var replacement = new Entry(victim, kind, site, level, hash, least.count.get());
+                if (table.compareAndSet(victim, least, replacement)) {
+                    entry = replacement;
+                }
+            }
+        }
+        current.set(entry);
+        if (null!=entry) {
+            entry.count.incrementAndGet();
+        }
+    }
+
+    /**
+     * The statement admitted on the current thread, if it is still tracked.
+     */
+    private Entry tracked() {
+        final var entry = current.get();
+        return null!=entry && table.get(entry.slot) == entry ? entry : null;
+    }
+
+    /**
+     * Adds the time spent formatting to the statement admitted on the current thread.
+     * @param nanos The time spent formatting.
+     */
+    void formatted(final long nanos) {
+        final var entry = tracked();
+        if (null!=entry) {
+            entry.nanos.addAndGet(nanos);
+        }
+    }
+
+    /**
+     * Adds a message passed to the logger to the statement admitted on the current thread and ends it, hence
+     * the next message without a statement of its own is not added to it.
+     * @param length The number of characters of the message.
+     * @param nanos The time spent in the logger.
+     */
+    void emitted(final int length, final long nanos) {
+        final var entry = tracked();
+        if (null!=entry) {
+            entry.characters.addAndGet(length);
+            entry.nanos.addAndGet(nanos);
+        }
+        current.set(pinned.get());
+    }
+
+    /**
+     * Keeps the statement admitted on the current thread for all the messages of a block.
+     * @return The statement kept before, to be passed to unpin.
+     */
+    Object pin() {
+        final var previous = pinned.get();
+        pinned.set(current.get());
+        return previous;
+    }
+
+    /**
+     * Ends the statement kept by pin.
+     * @param previous The value returned by pin.
+     */
+    void unpin(final Object previous) {
+        pinned.set((Entry) previous);
+        current.set((Entry) previous);
+    }
+
+    /**
+     * Runs a write that is not added to the statement admitted on the current thread.
+     * @param write Passes the message to the logger.
+     */
+    void unattributed(final Runnable write) {
+        final var entry = current.get();
+        final var kept = pinned.get();
+        current.set(null);
+        pinned.set(null);
+        try {
+            write.run();
+        }
+        finally {
+            current.set(entry);
+            pinned.set(kept);
+        }
+    }
+
+    /**
+     * The most counted log statements.
+     * @param limit The maximum number of statements.
+     * @return The statements by descending count.
+     */
+    public List<Site> top(final int limit) {
+        return top(limit, Comparator.comparingLong(Site::count).reversed());
+    }
+
+    /**
+     * The log statements that spent the most time formatting and in the logger.
+     * @param limit The maximum number of statements.
+     * @return The statements by descending time.
+     */
+    public List<Site> topByCost(final int limit) {
+        return top(limit, Comparator.comparingLong(Site::nanos).reversed());
+    }
+
+    private List<Site> top(final int limit, final Comparator<Site> order) {
+        final var sites = new ArrayList<Site>(table.length());
+        for (var index = 0; index < table.length(); index++) {
+            final var entry = table.get(index);
+            if (null!=entry) {
+                sites.add(entry.snapshot());
+            }
+        }
+        sites.sort(order);
+        return sites.size() > limit ? new ArrayList<>(sites.subList(0, Math.max(0, limit))) : sites;
+    }
+
+    /**
+     * Renders the most counted log statements as a table.
+     * @param limit The maximum number of statements.
+     * @return The report.
+     */
+    public String report(final int limit) {
+        final var report = new StringBuilder(String.format("%12s %12s %12s %12s %-5s %-8s %s%n",
+                "COUNT", "ERROR", "CHARACTERS", "MICROS", "LEVEL", "KIND", "KEY"));
+        for (final var site : top(limit)) {
+            report.append(String.format("%12d %12d %12d %12d %-5s %-8s %s%n", site.count(), site.error(),
+                    site.characters(), site.nanos() / 1_000, site.level(), site.kind(), site.key()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Passes the report to the reporter periodically from a daemon thread.
+     * @param period The time between the reports.
+     * @param unit The time unit of the period.
+     * @param limit The maximum number of statements per report.
+     * @param reporter Accepts the report <i>(e.g. System.out::print)</i>.
+     * @return Stops the reports when closed.
+     */
+    public Closeable reportEvery(final long period, final TimeUnit unit, final int limit,
+                                 final Consumer<String> reporter) {
+        final var interval = Math.max(1, unit.toNanos(period));
+        final var thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(this, interval);
+                if (!Thread.currentThread().isInterrupted()) {
+                    reporter.accept(report(limit));
+                }
+            }
+        }, "logger-plus-profiler");
+        thread.setDaemon(true);
+        thread.start();
+        return thread::interrupt;
+    }
+
+    /**
+     * Forgets all the tracked statements. A message whose statement was admitted before is not added to any.
+     */
+    public void reset() {
+        for (var index = 0; index < table.length(); index++) {
+            table.set(index, null);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A LoggerPlus that logs the first of the identical messages within a time window and summarizes the rest.
+ *
+ * <p>The messages are tracked in a fixed-size lock-free table. The summary of the repeats is logged when the window
+ * of a repeated message ends, from a background thread if nothing else logs it first, when the same message is
+ * logged after the window, when another message takes its slot in the table or on flush. The messages are compared
+ * without their throwables, hence only the throwable of the first one is logged.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class DeduplicatingLoggerPlus extends LoggerPlus {
+
+    /**
+     * The default number of messages tracked.
+     */
+    public static final int DEFAULT_TABLE_SIZE = 1024;
+
+    private static final int SUMMARY_TEXT_LIMIT = 100;
+
+    private static final class Entry {
+        private final Level level;
+        private final String message;
+        private final long start;
+        private final AtomicLong repeats = new AtomicLong();
+
+        private Entry(final Level level, final String message, final long start) {
+            this.level = level;
+            this.message = message;
+            this.start = start;
+        }
+    }
+
+    final private long window;
+
+    final private int mask;
+
+    final private AtomicReferenceArray<Entry> table;
+
+    /**
+     * Creates an instance of DeduplicatingLoggerPlus.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param window The time window of the identical messages.
+     * @param unit The time unit of the window.
+     * @param tableSize The number of messages tracked. Rounded up to a power of two.
+     */
+    public DeduplicatingLoggerPlus(final LoggerPlus parent, final long window, final TimeUnit unit,
+                                   final int tableSize) {
+        super(parent);
+        if (tableSize < 1) {
+            throw new IllegalArgumentException("The table size must be positive.");
+        }
+        final var size = Integer.highestOneBit(tableSize) == tableSize ? tableSize
+                : Integer.highestOneBit(tableSize) << 1;
+        this.window = unit.toNanos(window);
+        this.mask = size - 1;
+        this.table = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    void emit(final Level level, final String message) {
+        deduplicate(level, message, null);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if (null==keyValues || keyValues.isEmpty()) {
+            deduplicate(level, message, throwable);
+            return;
+        }
+        super.emit(level, message, keyValues, throwable);
+    }
+
+    private void deduplicate(final Level level, final String message, final Throwable throwable) {
+        final var hash = 31 * level.ordinal() + (null==message ? 0 : message.hashCode());
+        final var index = (hash ^ (hash >>> 16)) & mask;
+        final var now = System.nanoTime();
+        while (true) {
+            final var entry = table.get(index);
+            if (null!=entry && entry.level == level && isSame(entry.message, message) && now - entry.start < window) {
+                if (entry.repeats.incrementAndGet() == 1) {
+                    Housekeeper.schedule(() -> expire(index, entry), entry.start + window - now,
+                            TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+            if (table.compareAndSet(index, entry, new Entry(level, message, now))) {
+                summarize(entry);
+                if (null==throwable) {
+                    super.emit(level, message);
+                }
+                else {
+                    super.emit(level, message, null, throwable);
+                }
+                return;
+            }
+        }
+    }
+
+    private void expire(final int index, final Entry entry) {
+        if (table.compareAndSet(index, entry, null)) {
+            summarize(entry);
+        }
+    }
+
+    private static boolean isSame(final String message, final String other) {
+        return null==message ? null==other : message.equals(other);
+    }
+
+    private void summarize(final Entry entry) {
+        if (null==entry) {
+            return;
+        }
+        final var repeats = entry.repeats.get();
+        if (repeats > 0) {
+            final var text = String.valueOf(entry.message);
+            unattributed(() -> super.emit(entry.level, "Last message repeated " + repeats + " times: "
+                    + (text.length() > SUMMARY_TEXT_LIMIT ? text.substring(0, SUMMARY_TEXT_LIMIT) + "..." : text)));
+        }
+    }
+
+    /**
+     * Logs the summaries of the repeated messages and forgets all the tracked messages.
+     */
+    public void flush() {
+        for (var index = 0; index < table.length(); index++) {
+            summarize(table.getAndSet(index, null));
+        }
+    }
+}
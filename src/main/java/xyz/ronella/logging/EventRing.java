@@ -0,0 +1,152 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A preallocated lock-free ring of log events with many producers and a single consumer.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+final class EventRing {
+
+    /**
+     * Receives the events taken from the ring.
+     */
+    @FunctionalInterface
+    interface EventHandler {
+
+        /**
+         * Handles a single event.
+         * @param level The level of the event.
+         * @param message The message of the event.
+         * @param keyValues The key-value pairs of the event. Null if none.
+         * @param throwable The throwable of the event. Null if none.
+         */
+        void handle(Level level, String message, List<KeyValuePair> keyValues, Throwable throwable);
+    }
+
+    private final int mask;
+
+    private final Level[] levels;
+
+    private final String[] messages;
+
+    private final Object[] keyValues;
+
+    private final Throwable[] throwables;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates an instance of EventRing.
+     * @param capacity The minimum number of events the ring can hold. Rounded up to a power of two.
+     */
+    EventRing(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        final var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.levels = new Level[size];
+        this.messages = new String[size];
+        this.keyValues = new Object[size];
+        this.throwables = new Throwable[size];
+        this.sequences = new AtomicLongArray(size);
+        for (var index = 0; index < size; index++) {
+            sequences.set(index, index);
+        }
+    }
+
+    /**
+     * Places an event on the ring. Safe to call from many threads.
+     * @param level The level of the event.
+     * @param message The message of the event.
+     * @param pairs The key-value pairs of the event. Null if none.
+     * @param throwable The throwable of the event. Null if none.
+     * @return false if the ring is full.
+     */
+    boolean offer(final Level level, final String message, final List<KeyValuePair> pairs,
+                  final Throwable throwable) {
+        while (true) {
+            final var position = tail.get();
+            final var index = (int) (position & mask);
+            final var difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    levels[index] = level;
+                    messages[index] = message;
+                    keyValues[index] = pairs;
+                    throwables[index] = throwable;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+            else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Takes up to a number of events from the ring. Must only be called from the consumer thread.
+     * @param handler The receiver of the events.
+     * @param limit The maximum number of events to take.
+     * @return The number of events taken.
+     */
+    int drain(final EventHandler handler, final int limit) {
+        var position = head.get();
+        var count = 0;
+        while (count < limit) {
+            final var index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            final var level = levels[index];
+            final var message = messages[index];
+            @SuppressWarnings("unchecked")
+            final var pairs = (List<KeyValuePair>) keyValues[index];
+            final var throwable = throwables[index];
+            levels[index] = null;
+            messages[index] = null;
+            keyValues[index] = null;
+            throwables[index] = null;
+            sequences.set(index, position + mask + 1);
+            position++;
+            count++;
+            try {
+                handler.handle(level, message, pairs, throwable);
+            }
+            finally {
+                head.lazySet(position);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The number of events offered so far.
+     * @return The producer position.
+     */
+    long produced() {
+        return tail.get();
+    }
+
+    /**
+     * The number of events drained so far.
+     * @return The consumer position.
+     */
+    long consumed() {
+        return head.get();
+    }
+}
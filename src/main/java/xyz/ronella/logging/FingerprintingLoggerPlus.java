@@ -0,0 +1,61 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+
+/**
+ * A LoggerPlus that renders the stack trace of a throwable fingerprint only once.
+ *
+ * <p>A throwable passed to the logger as is gets the fingerprint appended to its message. Only its first occurrence
+ * is passed to the logger, the next ones are replaced by a single line with the occurrence count.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+class FingerprintingLoggerPlus extends LoggerPlus {
+
+    final private ThrowableFingerprints fingerprints;
+
+    /**
+     * Creates an instance of FingerprintingLoggerPlus.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param fingerprints The fingerprints already rendered.
+     */
+    FingerprintingLoggerPlus(final LoggerPlus parent, final ThrowableFingerprints fingerprints) {
+        super(parent);
+        this.fingerprints = fingerprints;
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if (null==throwable) {
+            super.emit(level, message, keyValues, null);
+            return;
+        }
+        final var fingerprint = ThrowableFingerprints.fingerprint(throwable);
+        final var count = fingerprints.occurred(fingerprint);
+        final var tagged = message + " [" + ThrowableFingerprints.id(fingerprint) + "]";
+        if (count == 1) {
+            super.emit(level, tagged, keyValues, throwable);
+        }
+        else {
+            super.emit(level, tagged + " " + ThrowableFingerprints.reference(throwable, count), keyValues, null);
+        }
+    }
+
+    @Override
+    public String getStackTraceAsString(final Throwable throwable, final StackTraceRenderer renderer) {
+        return fingerprints.render(throwable, renderer);
+    }
+
+    /**
+     * The fingerprints already rendered.
+     * @return An instance of ThrowableFingerprints.
+     */
+    ThrowableFingerprints getFingerprints() {
+        return fingerprints;
+    }
+}
@@ -0,0 +1,252 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A LoggerPlus that keeps the recent DEBUG and TRACE messages disabled in the logger in a fixed-size ring per thread,
+ * and logs them with the next ERROR message of the same thread.
+ *
+ * <p>The formatted messages are kept as the format and the values, and the supplied messages and key-value pairs
+ * as their suppliers, hence they are only formatted or evaluated when an error is logged. A value that changes
+ * before the error is logged with its new state. The ring is cleared once logged.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class FlightRecorderLoggerPlus extends LoggerPlus {
+
+    /**
+     * The default number of messages kept per thread.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The header of the recorded messages logged with an error.
+     */
+    static final String HEADER = "[RECORDED]";
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final class Ring {
+        private final Level[] levels;
+        private final long[] times;
+        private final String[] prefixes;
+        private final String[] formats;
+        private final Object[][] values;
+        private final Object[] keyValues;
+        private final Object[] sources;
+        private final Throwable[] throwables;
+        private int next;
+        private int size;
+
+        private Ring(final int capacity) {
+            levels = new Level[capacity];
+            times = new long[capacity];
+            prefixes = new String[capacity];
+            formats = new String[capacity];
+            values = new Object[capacity][];
+            keyValues = new Object[capacity];
+            sources = new Object[capacity];
+            throwables = new Throwable[capacity];
+        }
+
+        private void add(final Level level, final String prefix, final String format, final Object[] args,
+                         final List<KeyValuePair> pairs, final Throwable throwable) {
+            add(level, prefix, format, args, pairs, null, throwable);
+        }
+
+        private void add(final Level level, final String prefix, final String format, final Object[] args,
+                         final List<KeyValuePair> pairs, final Object source, final Throwable throwable) {
+            levels[next] = level;
+            times[next] = System.currentTimeMillis();
+            prefixes[next] = prefix;
+            formats[next] = format;
+            values[next] = args;
+            keyValues[next] = pairs;
+            sources[next] = source;
+            throwables[next] = throwable;
+            next = (next + 1) % levels.length;
+            if (size < levels.length) {
+                size++;
+            }
+        }
+
+        private void clear() {
+            for (var index = 0; index < levels.length; index++) {
+                prefixes[index] = null;
+                formats[index] = null;
+                values[index] = null;
+                keyValues[index] = null;
+                sources[index] = null;
+                throwables[index] = null;
+            }
+            next = 0;
+            size = 0;
+        }
+    }
+
+    final private int threshold;
+
+    final private ThreadLocal<Ring> rings;
+
+    /**
+     * Creates an instance of FlightRecorderLoggerPlus.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param capacity The number of messages kept per thread.
+     * @param level The most verbose level recorded <i>(i.e. DEBUG or TRACE)</i>.
+     */
+    FlightRecorderLoggerPlus(final LoggerPlus parent, final int capacity, final Level level) {
+        super(parent);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.threshold = level.toInt();
+        this.rings = ThreadLocal.withInitial(() -> new Ring(capacity));
+    }
+
+    private boolean isRecorded(final Level level) {
+        final var value = level.toInt();
+        return value < Level.INFO.toInt() && value >= threshold;
+    }
+
+    @Override
+    boolean isLevelEnabled(final Level level, final boolean withLoggerOverride) {
+        return isRecorded(level) || super.isLevelEnabled(level, withLoggerOverride);
+    }
+
+    @Override
+    void emit(final Level level, final String message) {
+        if (isRecorded(level) && !super.isLevelEnabled(level, true)) {
+            rings.get().add(level, null, message, null, null, null);
+            return;
+        }
+        if (Level.ERROR == level) {
+            dump();
+        }
+        super.emit(level, message);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues) {
+        if (isRecorded(level) && !super.isLevelEnabled(level, true)) {
+            rings.get().add(level, null, message, null, keyValues, null);
+            return;
+        }
+        if (Level.ERROR == level) {
+            dump();
+        }
+        super.emit(level, message, keyValues);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if (isRecorded(level) && !super.isLevelEnabled(level, true)) {
+            rings.get().add(level, null, message, null, keyValues, throwable);
+            return;
+        }
+        if (Level.ERROR == level) {
+            dump();
+        }
+        super.emit(level, message, keyValues, throwable);
+    }
+
+    @Override
+    void emitFormatted(final Level level, final String prefix, final String format, final Object ... values) {
+        if (isRecorded(level) && !super.isLevelEnabled(level, true)) {
+            rings.get().add(level, prefix, format, null==values ? new Object[0] : values, null,
+                    MessageTemplate.trailingThrowable(format, values));
+            return;
+        }
+        super.emitFormatted(level, prefix, format, values);
+    }
+
+    @Override
+    void emitSupplied(final Level level, final String prefix, final Supplier<String> message,
+                      final Throwable throwable) {
+        if (isRecorded(level) && !super.isLevelEnabled(level, true)) {
+            rings.get().add(level, prefix, null, null, null, message, throwable);
+            return;
+        }
+        super.emitSupplied(level, prefix, message, throwable);
+    }
+
+    @Override
+    void emitEvent(final Level level, final LogEvent event) {
+        if (isRecorded(level) && !super.isLevelEnabled(level, true)) {
+            rings.get().add(level, null, null, null, null, event, null);
+            return;
+        }
+        super.emitEvent(level, event);
+    }
+
+    private void dump() {
+        final var ring = rings.get();
+        if (ring.size == 0) {
+            return;
+        }
+        final var text = new StringBuilder(HEADER);
+        final var capacity = ring.levels.length;
+        for (var count = 0; count < ring.size; count++) {
+            final var index = (ring.next - ring.size + count + capacity) % capacity;
+            text.append(LINE_SEPARATOR).append(ring.times[index]).append(' ').append(ring.levels[index]).append(' ')
+                    .append(render(ring, index));
+        }
+        ring.clear();
+        unattributed(() -> super.emit(Level.ERROR, text.toString()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String render(final Ring ring, final int index) {
+        final var format = ring.formats[index];
+        final var args = ring.values[index];
+        final var source = ring.sources[index];
+        var message = String.valueOf(format);
+        var pairs = (List<KeyValuePair>) ring.keyValues[index];
+        try {
+            if (source instanceof LogEvent event) {
+                message = event.message();
+                pairs = event.keyValues();
+            }
+            else if (source instanceof Supplier<?> supplier) {
+                message = String.valueOf(supplier.get());
+                message = null==ring.prefixes[index] ? message : ring.prefixes[index] + message;
+            }
+        } catch (RuntimeException exception) {
+            message = "<failed to evaluate: " + exception + ">";
+        }
+        if (null!=args) {
+            try {
+                message = null==ring.prefixes[index] ? MessageTemplate.format(format, args)
+                        : MessageTemplate.formatPrefixed(ring.prefixes[index], format, args);
+            } catch (RuntimeException exception) {
+                message = null==ring.prefixes[index] ? message : ring.prefixes[index] + message;
+            }
+        }
+        final var throwable = ring.throwables[index];
+        if (null!=pairs || null!=throwable) {
+            final var line = new StringBuilder(message);
+            if (null!=pairs) {
+                for (final var pair : pairs) {
+                    line.append(' ').append(pair.key).append('=').append(pair.value);
+                }
+            }
+            if (null!=throwable) {
+                line.append(LINE_SEPARATOR).append(getStackTraceAsString(throwable));
+            }
+            message = line.toString();
+        }
+        return message;
+    }
+
+    /**
+     * Discards the messages recorded for the current thread <i>(e.g. when a pooled thread starts a new request)</i>.
+     */
+    public void clear() {
+        rings.get().clear();
+    }
+}
@@ -0,0 +1,268 @@
+package xyz.ronella.logging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The nested groups of the current thread <i>(e.g. checkout &gt; payment &gt; charge)</i>.
+ *
+ * <p>Each group is an immutable node whose path is computed once when pushed. The current group of a thread can be
+ * carried to another thread by wrapping the task or the executor, which restores it while the task runs.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public final class GroupContext {
+
+    /**
+     * The separator of the group names in a path.
+     */
+    public static final String SEPARATOR = " > ";
+
+    private static final ThreadLocal<GroupContext> CURRENT = new ThreadLocal<>();
+
+    final private GroupContext parent;
+
+    final private String name;
+
+    final private String path;
+
+    private GroupContext(final GroupContext parent, final String name) {
+        this.parent = parent;
+        this.name = name;
+        this.path = null==parent ? name : parent.path + SEPARATOR + name;
+    }
+
+    /**
+     * The current group of the thread.
+     * @return An instance of GroupContext or null if there is none.
+     */
+    public static GroupContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes a group nested in the current group the current group of the thread.
+     * @param name The group name.
+     * @return The new current group.
+     */
+    public static GroupContext push(final String name) {
+        final var context = new GroupContext(CURRENT.get(), name);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Makes the parent the current group of the thread, if this is the current group.
+     */
+    public void pop() {
+        if (CURRENT.get() == this) {
+            restore(parent);
+        }
+    }
+
+    private static void restore(final GroupContext context) {
+        if (null==context) {
+            CURRENT.remove();
+        }
+        else {
+            CURRENT.set(context);
+        }
+    }
+
+    /**
+     * The name of the group.
+     * @return The group name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The names of the enclosing groups and this group joined by the separator.
+     * @return The group path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * The enclosing group.
+     * @return An instance of GroupContext or null if there is none.
+     */
+    public GroupContext getParent() {
+        return parent;
+    }
+
+    /**
+     * Carries the current group of the thread to the task.
+     * @param task The task.
+     * @return The task that runs in the current group.
+     */
+    public static Runnable wrap(final Runnable task) {
+        final var captured = CURRENT.get();
+        return () -> {
+            final var previous = CURRENT.get();
+            restore(captured);
+            try {
+                task.run();
+            }
+            finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Carries the current group of the thread to the task.
+     * @param task The task.
+     * @param <T> The type of the result.
+     * @return The task that runs in the current group.
+     */
+    public static <T> Callable<T> wrap(final Callable<T> task) {
+        final var captured = CURRENT.get();
+        return () -> {
+            final var previous = CURRENT.get();
+            restore(captured);
+            try {
+                return task.call();
+            }
+            finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Carries the current group of the thread to the supplier <i>(e.g. for CompletableFuture.supplyAsync)</i>.
+     * @param supplier The supplier.
+     * @param <T> The type of the result.
+     * @return The supplier that runs in the current group.
+     */
+    public static <T> Supplier<T> wrapSupplier(final Supplier<T> supplier) {
+        final var captured = CURRENT.get();
+        return () -> {
+            final var previous = CURRENT.get();
+            restore(captured);
+            try {
+                return supplier.get();
+            }
+            finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Carries the group current when a task is submitted to the task.
+     * @param executor The executor.
+     * @return The executor that runs each task in the group current when it was submitted.
+     */
+    public static Executor wrap(final Executor executor) {
+        return ___task -> executor.execute(wrap(___task));
+    }
+
+    /**
+     * Carries the group current when a task is submitted to the task.
+     * @param executorService The executor service.
+     * @return The executor service that runs each task in the group current when it was submitted.
+     */
+    public static ExecutorService wrap(final ExecutorService executorService) {
+        return new ContextExecutorService(executorService);
+    }
+
+    private static <T> List<Callable<T>> wrapAll(final Collection<? extends Callable<T>> tasks) {
+        final var wrapped = new ArrayList<Callable<T>>(tasks.size());
+        for (final var task : tasks) {
+            wrapped.add(wrap(task));
+        }
+        return wrapped;
+    }
+
+    private static final class ContextExecutorService implements ExecutorService {
+
+        final private ExecutorService delegate;
+
+        private ContextExecutorService(final ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(wrap(command));
+        }
+
+        @Override
+        public <T> Future<T> submit(final Callable<T> task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(final Runnable task, final T result) {
+            return delegate.submit(wrap(task), result);
+        }
+
+        @Override
+        public Future<?> submit(final Runnable task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks)
+                throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout,
+                                             final TimeUnit unit) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+                throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout,
+                               final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package xyz.ronella.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The JDK Flight Recorder event of a GroupLogger from its creation to its closing.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+@Name(GroupSpanEvent.NAME)
+@Label("Group Span")
+@Category("Logger Plus")
+@Description("A GroupLogger from its creation to its closing.")
+@StackTrace(false)
+@Threshold("0 ms")
+final class GroupSpanEvent extends Event {
+
+    /**
+     * The name of the event in the recordings.
+     */
+    static final String NAME = "xyz.ronella.logging.GroupSpan";
+
+    private static final GroupSpanEvent PROBE = new GroupSpanEvent(null, null);
+
+    @Label("Group Name")
+    final String groupName;
+
+    @Label("Logger Name")
+    final String loggerName;
+
+    private GroupSpanEvent(final String groupName, final String loggerName) {
+        this.groupName = groupName;
+        this.loggerName = loggerName;
+    }
+
+    /**
+     * Checks if a recording takes the event. Does not create any event.
+     * @return true if the event is enabled.
+     */
+    static boolean isRecorded() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * Begins the event of a group, if a recording takes it.
+     * @param groupName The group name.
+     * @param loggerPlus The LoggerPlus of the group.
+     * @return The event or null if no recording takes it.
+     */
+    static GroupSpanEvent start(final String groupName, final LoggerPlus loggerPlus) {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        final var event = new GroupSpanEvent(groupName, loggerPlus.getName());
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,44 @@
+package xyz.ronella.logging;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delayed tasks of the LoggerPlus instances <i>(e.g. the reports of suppressed messages)</i> on a single
+ * shared daemon thread, started on the first task.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+final class Housekeeper {
+
+    private static final ScheduledThreadPoolExecutor EXECUTOR = new ScheduledThreadPoolExecutor(1, ___task -> {
+        final var thread = new Thread(___task, "logger-plus-housekeeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    private Housekeeper() {}
+
+    /**
+     * Runs a task once after a delay.
+     * @param task The task.
+     * @param delay The time before the task runs.
+     * @param unit The time unit of the delay.
+     * @return Cancels the task.
+     */
+    static ScheduledFuture<?> schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        return EXECUTOR.schedule(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                InternalErrors.report("A background task of LoggerPlus failed.", exception);
+            }
+        }, delay, unit);
+    }
+}
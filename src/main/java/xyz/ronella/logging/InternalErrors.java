@@ -0,0 +1,44 @@
+package xyz.ronella.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports the failures of the background threads of the LoggerPlus instances <i>(e.g. the drainer of an
+ * AsyncLoggerPlus)</i> through the LoggerPlus logger and counts them.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+final class InternalErrors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggerPlus.class);
+
+    private static final LongAdder COUNT = new LongAdder();
+
+    private InternalErrors() {}
+
+    /**
+     * Counts a failure and logs it as an error. A failure of the logger itself is only counted.
+     * @param message What failed.
+     * @param exception The cause of the failure.
+     */
+    static void report(final String message, final Throwable exception) {
+        COUNT.increment();
+        try {
+            LOGGER.error(message, exception);
+        } catch (RuntimeException loggerException) {
+            // Already counted.
+        }
+    }
+
+    /**
+     * The number of failures reported.
+     * @return The failure count.
+     */
+    static long getCount() {
+        return COUNT.sum();
+    }
+}
@@ -0,0 +1,135 @@
+package xyz.ronella.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with a fixed memory footprint.
+ *
+ * <p>The durations are counted in log-linear buckets: exact below 32 nanoseconds and sixteen buckets per power of
+ * two above it, hence a percentile is within about 6% of the recorded duration.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class LatencyHistogram {
+
+    private static final int EXACT = 32;
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int EXACT_BITS = Integer.numberOfTrailingZeros(EXACT);
+
+    private static final int BUCKETS = EXACT + (Long.SIZE - 1 - EXACT_BITS) * SUB_BUCKETS;
+
+    final private AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    final private AtomicLong count = new AtomicLong();
+
+    final private AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates an empty instance of LatencyHistogram.
+     */
+    public LatencyHistogram() {
+        super();
+    }
+
+    /**
+     * Records a duration.
+     * @param nanos The duration in nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(final long nanos) {
+        final var value = Math.max(0, nanos);
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * The number of durations recorded.
+     * @return The count.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * The longest duration recorded.
+     * @return The duration in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * The duration that the percentage of the recorded durations do not exceed.
+     * @param percentile The percentage from 0.0 to 100.0 <i>(e.g. 99.9)</i>.
+     * @return The upper bound of the bucket of the percentile in nanoseconds or 0 if nothing was recorded.
+     */
+    public long percentile(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("The percentile must be from 0.0 to 100.0.");
+        }
+        final var total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        final var rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        var cumulative = 0L;
+        for (var index = 0; index < BUCKETS; index++) {
+            cumulative += counts.get(index);
+            if (cumulative >= rank) {
+                return Math.min(upperBound(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * The median duration.
+     * @return The duration in nanoseconds.
+     */
+    public long getP50() {
+        return percentile(50.0);
+    }
+
+    /**
+     * The 99th percentile duration.
+     * @return The duration in nanoseconds.
+     */
+    public long getP99() {
+        return percentile(99.0);
+    }
+
+    /**
+     * The 99.9th percentile duration.
+     * @return The duration in nanoseconds.
+     */
+    public long getP999() {
+        return percentile(99.9);
+    }
+
+    static int index(final long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        final var magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final var shift = magnitude - SUB_BUCKET_BITS;
+        final var subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return EXACT + (magnitude - EXACT_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(final int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        final var magnitude = (index - EXACT) / SUB_BUCKETS + EXACT_BITS;
+        final var subBucket = (index - EXACT) % SUB_BUCKETS;
+        final var shift = magnitude - SUB_BUCKET_BITS;
+        final var lowerBound = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
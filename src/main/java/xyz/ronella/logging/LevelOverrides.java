@@ -0,0 +1,200 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The levels set per group name or logger name, independent of the levels of the logger.
+ *
+ * <p>The table is copied on write and each LoggerPlus and GroupLogger caches its own level, refreshed only when
+ * the epoch of the table changes. A level set here can only restrict the level of the logger: a message is logged
+ * only if both enable its level. Hence the logger must be configured with the most verbose level that can be set
+ * here, and the overrides quiet the other names down.</p>
+ *
+ * <p>The levels can be loaded from a properties file where the keys are the group names or the logger names and
+ * the values are the levels <i>(i.e. ERROR, WARN, INFO, DEBUG, TRACE or OFF)</i>.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public final class LevelOverrides {
+
+    /**
+     * The threshold when there is no level set.
+     */
+    static final int NONE = Integer.MIN_VALUE;
+
+    /**
+     * A cached threshold that must be refreshed.
+     */
+    static final long STALE = 0xFFFFFFFF00000000L;
+
+    private static final int OFF = Integer.MAX_VALUE;
+
+    private static volatile Map<String, Integer> thresholds = Map.of();
+
+    private static volatile int epoch;
+
+    private LevelOverrides() {}
+
+    /**
+     * Sets the level of a group name or a logger name.
+     * @param name The group name or the logger name.
+     * @param level The level. Null to turn off all the levels.
+     */
+    public static synchronized void set(final String name, final Level level) {
+        final var copy = new HashMap<>(thresholds);
+        copy.put(name, null==level ? OFF : level.toInt());
+        publish(copy);
+    }
+
+    /**
+     * Removes the level of a group name or a logger name.
+     * @param name The group name or the logger name.
+     */
+    public static synchronized void remove(final String name) {
+        final var copy = new HashMap<>(thresholds);
+        copy.remove(name);
+        publish(copy);
+    }
+
+    /**
+     * Removes all the levels.
+     */
+    public static synchronized void clear() {
+        publish(Map.of());
+    }
+
+    /**
+     * Replaces all the levels with the ones from the properties.
+     * @param properties The properties where the keys are the names and the values are the levels.
+     */
+    public static synchronized void load(final Properties properties) {
+        final var copy = new HashMap<String, Integer>();
+        for (final var name : properties.stringPropertyNames()) {
+            final var value = properties.getProperty(name).trim().toUpperCase(Locale.ROOT);
+            copy.put(name, "OFF".equals(value) ? OFF : Level.valueOf(value).toInt());
+        }
+        publish(copy);
+    }
+
+    /**
+     * Replaces all the levels with the ones from a properties file.
+     * @param file The properties file.
+     * @throws IOException When the file cannot be read.
+     */
+    public static void load(final Path file) throws IOException {
+        final var properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+        }
+        load(properties);
+    }
+
+    /**
+     * Loads the levels from a properties file and reloads them every time the file changes.
+     * @param file The properties file.
+     * @return Stops watching the file when closed.
+     * @throws IOException When the file cannot be read or watched.
+     */
+    public static Closeable watch(final Path file) throws IOException {
+        final var absoluteFile = file.toAbsolutePath();
+        final var directory = absoluteFile.getParent();
+        final var fileName = absoluteFile.getFileName();
+        final var watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        load(absoluteFile);
+
+        final var watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    final var key = watchService.take();
+                    final var changed = key.pollEvents().stream()
+                            .anyMatch(___event -> fileName.equals(___event.context()));
+                    if (changed && Files.exists(absoluteFile)) {
+                        try {
+                            load(absoluteFile);
+                        } catch (IOException | IllegalArgumentException exception) {
+                            InternalErrors.report("Cannot reload the levels from " + absoluteFile
+                                    + ", the previous levels are kept.", exception);
+                        }
+                    }
+                    key.reset();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException exception) {
+                // Stopped watching.
+            }
+        }, "logger-plus-level-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+
+        return watchService;
+    }
+
+    /**
+     * The level of a group name or a logger name.
+     * @param name The group name or the logger name.
+     * @return The level or null if not set or turned off.
+     */
+    public static Level get(final String name) {
+        final var threshold = threshold(name);
+        if (threshold == NONE || threshold == OFF) {
+            return null;
+        }
+        for (final var level : Level.values()) {
+            if (level.toInt() == threshold) {
+                return level;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Refreshes a cached threshold if the table changed since it was cached.
+     * @param cache The cached epoch in the upper half and threshold in the lower half.
+     * @param name The group name or the logger name.
+     * @return The same cache if still valid, otherwise the refreshed one.
+     */
+    static long refresh(final long cache, final String name) {
+        final var current = epoch;
+        if ((int) (cache >>> 32) == current) {
+            return cache;
+        }
+        return ((long) current << 32) | (threshold(name) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Checks a level against a threshold.
+     * @param level The level of the message.
+     * @param threshold The threshold from the cache.
+     * @return true if the level is enabled.
+     */
+    static boolean isEnabled(final Level level, final int threshold) {
+        return level.toInt() >= threshold;
+    }
+
+    private static int threshold(final String name) {
+        if (null==name) {
+            return NONE;
+        }
+        final var threshold = thresholds.get(name);
+        return null==threshold ? NONE : threshold;
+    }
+
+    private static void publish(final Map<String, Integer> table) {
+        thresholds = Map.copyOf(table);
+        epoch = epoch + 1 == (int) (STALE >>> 32) ? 0 : epoch + 1;
+    }
+}
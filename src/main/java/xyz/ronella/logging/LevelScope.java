@@ -0,0 +1,70 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+/**
+ * Logs the messages of a block that already passed the level check, hence the messages are passed on without
+ * checking the level again.
+ *
+ * <p>An instance is only passed to the block if the level is enabled. Keep any computation that only feeds the
+ * messages inside the block.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public final class LevelScope {
+
+    final private LoggerPlus loggerPlus;
+
+    final private LoggerPlus.GroupLogger groupLogger;
+
+    final private Level level;
+
+    /**
+     * Creates an instance of LevelScope.
+     * @param loggerPlus The LoggerPlus that logs the messages. Ignored if there is a GroupLogger.
+     * @param groupLogger The GroupLogger that logs the messages. Null if none.
+     * @param level The level of the messages.
+     */
+    LevelScope(final LoggerPlus loggerPlus, final LoggerPlus.GroupLogger groupLogger, final Level level) {
+        this.loggerPlus = loggerPlus;
+        this.groupLogger = groupLogger;
+        this.level = level;
+    }
+
+    /**
+     * The level of the messages.
+     * @return The level.
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Logs a message.
+     * @param message The message.
+     */
+    public void log(final String message) {
+        if (null==groupLogger) {
+            loggerPlus.emit(level, message);
+        }
+        else {
+            groupLogger.log(level, message);
+        }
+    }
+
+    /**
+     * Logs a String.format(ted) message. A trailing throwable not consumed by the format is passed to the logger
+     * as is.
+     * @param format The format for the message.
+     * @param values The values of the String.format(ted) message
+     */
+    public void log(final String format, final Object ... values) {
+        if (null==groupLogger) {
+            loggerPlus.emitFormatted(level, null, format, values);
+        }
+        else {
+            groupLogger.logFormatted(level, format, values);
+        }
+    }
+}
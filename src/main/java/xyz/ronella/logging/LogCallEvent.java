@@ -0,0 +1,67 @@
+package xyz.ronella.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.slf4j.event.Level;
+
+/**
+ * The JDK Flight Recorder event of a message of a GroupLogger, from the formatting to the return of the logger.
+ *
+ * <p>The event is disabled by default, since there is one per message. Enable it in the recording settings.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+@Name(LogCallEvent.NAME)
+@Label("Log Call")
+@Category("Logger Plus")
+@Description("The formatting of a GroupLogger message and its passing to the logger.")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("0 ms")
+final class LogCallEvent extends Event {
+
+    /**
+     * The name of the event in the recordings.
+     */
+    static final String NAME = "xyz.ronella.logging.LogCall";
+
+    private static final LogCallEvent PROBE = new LogCallEvent(null, null, null);
+
+    @Label("Level")
+    final String level;
+
+    @Label("Group Name")
+    final String groupName;
+
+    @Label("Logger Name")
+    final String loggerName;
+
+    private LogCallEvent(final String level, final String groupName, final String loggerName) {
+        this.level = level;
+        this.groupName = groupName;
+        this.loggerName = loggerName;
+    }
+
+    /**
+     * Begins the event of a message, if a recording takes it.
+     * @param level The level of the message.
+     * @param groupName The group name.
+     * @param loggerPlus The LoggerPlus of the group.
+     * @return The event or null if no recording takes it.
+     */
+    static LogCallEvent start(final Level level, final String groupName, final LoggerPlus loggerPlus) {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        final var event = new LogCallEvent(level.name(), groupName, loggerPlus.getName());
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,244 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A log message with key-value pairs, passed to the logger through the SLF4J fluent API.
+ *
+ * <p>An instance is only created if the level is enabled, otherwise a shared instance that ignores everything is
+ * returned. The primitive values are kept unboxed and the supplied values are only evaluated when the message is
+ * logged.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public final class LogEvent {
+
+    /**
+     * The instance returned when the level is disabled.
+     */
+    static final LogEvent DISABLED = new LogEvent(null, null);
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final byte OBJECT = 0;
+
+    private static final byte SUPPLIER = 1;
+
+    private static final byte INT = 2;
+
+    private static final byte LONG = 3;
+
+    private static final byte DOUBLE = 4;
+
+    private static final byte BOOLEAN = 5;
+
+    final private LoggerPlus loggerPlus;
+
+    final private Level level;
+
+    private String[] keys;
+
+    private Object[] values;
+
+    private long[] numbers;
+
+    private byte[] kinds;
+
+    private int size;
+
+    private Object message;
+
+    private Object[] messageValues;
+
+    /**
+     * Creates an instance of LogEvent.
+     * @param loggerPlus The LoggerPlus that logs the message.
+     * @param level The level of the message.
+     */
+    LogEvent(final LoggerPlus loggerPlus, final Level level) {
+        this.loggerPlus = loggerPlus;
+        this.level = level;
+    }
+
+    private int add(final String key, final byte kind) {
+        if (null==keys) {
+            keys = new String[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+            numbers = new long[INITIAL_CAPACITY];
+            kinds = new byte[INITIAL_CAPACITY];
+        }
+        else if (size == keys.length) {
+            final var capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+        }
+        keys[size] = key;
+        kinds[size] = kind;
+        return size++;
+    }
+
+    /**
+     * Adds a key-value pair.
+     * @param key The key.
+     * @param value The value.
+     * @return This instance.
+     */
+    public LogEvent kv(final String key, final Object value) {
+        if (null!=loggerPlus) {
+            final var index = add(key, OBJECT);
+            values[index] = value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds a key-value pair whose value is only evaluated when the message is logged.
+     * @param key The key.
+     * @param value The supplier of the value.
+     * @return This instance.
+     */
+    public LogEvent kv(final String key, final Supplier<?> value) {
+        if (null!=loggerPlus) {
+            final var index = add(key, SUPPLIER);
+            values[index] = value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds a key-value pair.
+     * @param key The key.
+     * @param value The value.
+     * @return This instance.
+     */
+    public LogEvent kv(final String key, final int value) {
+        if (null!=loggerPlus) {
+            final var index = add(key, INT);
+            numbers[index] = value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds a key-value pair.
+     * @param key The key.
+     * @param value The value.
+     * @return This instance.
+     */
+    public LogEvent kv(final String key, final long value) {
+        if (null!=loggerPlus) {
+            final var index = add(key, LONG);
+            numbers[index] = value;
+        }
+        return this;
+    }
+
+    /**
+     * Adds a key-value pair.
+     * @param key The key.
+     * @param value The value.
+     * @return This instance.
+     */
+    public LogEvent kv(final String key, final double value) {
+        if (null!=loggerPlus) {
+            final var index = add(key, DOUBLE);
+            numbers[index] = Double.doubleToRawLongBits(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a key-value pair.
+     * @param key The key.
+     * @param value The value.
+     * @return This instance.
+     */
+    public LogEvent kv(final String key, final boolean value) {
+        if (null!=loggerPlus) {
+            final var index = add(key, BOOLEAN);
+            numbers[index] = value ? 1 : 0;
+        }
+        return this;
+    }
+
+    /**
+     * Logs the message with the key-value pairs.
+     * @param message The message.
+     */
+    public void log(final String message) {
+        if (null!=loggerPlus && loggerPlus.admit(level, message)) {
+            loggerPlus.profile(level, message);
+            this.message = message;
+            loggerPlus.emitEvent(level, this);
+        }
+    }
+
+    /**
+     * Logs the supplied message with the key-value pairs.
+     * @param message The supplier of message.
+     */
+    public void log(final Supplier<String> message) {
+        if (null!=loggerPlus && null!=message && loggerPlus.admit(level, message.getClass())) {
+            loggerPlus.profile(level, message.getClass());
+            this.message = message;
+            loggerPlus.emitEvent(level, this);
+        }
+    }
+
+    /**
+     * Logs the String.format(ted) message with the key-value pairs.
+     * @param format The format for the message.
+     * @param values The values of the String.format(ted) message
+     */
+    public void log(final String format, final Object ... values) {
+        if (null!=loggerPlus && loggerPlus.admit(level, format)) {
+            loggerPlus.profile(level, format);
+            this.message = format;
+            this.messageValues = null==values ? new Object[0] : values;
+            loggerPlus.emitEvent(level, this);
+        }
+    }
+
+    /**
+     * Renders the logged message, evaluating its supplier or formatting it.
+     * @return The message.
+     */
+    @SuppressWarnings("unchecked")
+    String message() {
+        if (message instanceof Supplier<?> supplier) {
+            return ((Supplier<String>) supplier).get();
+        }
+        final var text = (String) message;
+        return null==messageValues ? text : loggerPlus.formattedMessage(level, text, messageValues);
+    }
+
+    /**
+     * Evaluates the key-value pairs.
+     * @return The key-value pairs.
+     */
+    List<KeyValuePair> keyValues() {
+        final var keyValues = new ArrayList<KeyValuePair>(size);
+        for (var index = 0; index < size; index++) {
+            final var number = numbers[index];
+            final Object value = switch (kinds[index]) {
+                case SUPPLIER -> null==values[index] ? null : ((Supplier<?>) values[index]).get();
+                case INT -> (int) number;
+                case LONG -> number;
+                case DOUBLE -> Double.longBitsToDouble(number);
+                case BOOLEAN -> number != 0;
+                default -> values[index];
+            };
+            keyValues.add(new KeyValuePair(keys[index], value));
+        }
+        return keyValues;
+    }
+}
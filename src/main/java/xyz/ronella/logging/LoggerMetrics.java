@@ -0,0 +1,160 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a LoggerPlus per level.
+ *
+ * <p>The counters are striped to stay uncontended between the logging threads. They are only updated while the
+ * metrics of the LoggerPlus are enabled.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class LoggerMetrics implements LoggerMetricsMXBean {
+
+    private static final Level[] LEVELS = Level.values();
+
+    /**
+     * The counters of a level at the time of a snapshot.
+     *
+     * @param requested The number of log calls.
+     * @param emitted The number of messages passed to the logger.
+     * @param suppressed The number of log calls whose level is disabled.
+     * @param characters The number of characters passed to the logger.
+     * @param formatNanos The time spent formatting the messages.
+     * @param backendNanos The time spent in the logger.
+     */
+    public record Counts(long requested, long emitted, long suppressed, long characters, long formatNanos,
+                         long backendNanos) {}
+
+    final private String loggerName;
+
+    final private LongAdder[] requested = adders();
+
+    final private LongAdder[] emitted = adders();
+
+    final private LongAdder[] suppressed = adders();
+
+    final private LongAdder[] characters = adders();
+
+    final private LongAdder[] formatNanos = adders();
+
+    final private LongAdder[] backendNanos = adders();
+
+    /**
+     * Creates an instance of LoggerMetrics.
+     * @param loggerName The name of the logger.
+     */
+    LoggerMetrics(final String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    private static LongAdder[] adders() {
+        final var adders = new LongAdder[LEVELS.length];
+        for (var index = 0; index < adders.length; index++) {
+            adders[index] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long sum(final LongAdder[] adders) {
+        var sum = 0L;
+        for (final var adder : adders) {
+            sum += adder.sum();
+        }
+        return sum;
+    }
+
+    void requested(final Level level) {
+        requested[level.ordinal()].increment();
+    }
+
+    void suppressed(final Level level) {
+        suppressed[level.ordinal()].increment();
+    }
+
+    void formatted(final Level level, final long nanos) {
+        formatNanos[level.ordinal()].add(nanos);
+    }
+
+    void emitted(final Level level, final int length, final long nanos) {
+        final var index = level.ordinal();
+        emitted[index].increment();
+        characters[index].add(length);
+        backendNanos[index].add(nanos);
+    }
+
+    /**
+     * The counters per level.
+     * @return The counts by level.
+     */
+    public Map<Level, Counts> snapshot() {
+        final var snapshot = new EnumMap<Level, Counts>(Level.class);
+        for (final var level : LEVELS) {
+            final var index = level.ordinal();
+            snapshot.put(level, new Counts(requested[index].sum(), emitted[index].sum(), suppressed[index].sum(),
+                    characters[index].sum(), formatNanos[index].sum(), backendNanos[index].sum()));
+        }
+        return snapshot;
+    }
+
+    @Override
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    @Override
+    public long getRequestedCount() {
+        return sum(requested);
+    }
+
+    @Override
+    public long getEmittedCount() {
+        return sum(emitted);
+    }
+
+    @Override
+    public long getSuppressedCount() {
+        return sum(suppressed);
+    }
+
+    @Override
+    public long getCharacterCount() {
+        return sum(characters);
+    }
+
+    @Override
+    public long getFormatNanos() {
+        return sum(formatNanos);
+    }
+
+    @Override
+    public long getBackendNanos() {
+        return sum(backendNanos);
+    }
+
+    @Override
+    public Map<String, Long> getEmittedCountByLevel() {
+        final var counts = new LinkedHashMap<String, Long>();
+        for (final var level : LEVELS) {
+            counts.put(level.name(), emitted[level.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        for (final var adders : new LongAdder[][] {requested, emitted, suppressed, characters, formatNanos,
+                backendNanos}) {
+            for (final var adder : adders) {
+                adder.reset();
+            }
+        }
+    }
+}
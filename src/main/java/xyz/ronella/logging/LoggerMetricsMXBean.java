@@ -0,0 +1,65 @@
+package xyz.ronella.logging;
+
+import java.util.Map;
+
+/**
+ * The management interface of the metrics of a LoggerPlus.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public interface LoggerMetricsMXBean {
+
+    /**
+     * The name of the logger.
+     * @return The logger name.
+     */
+    String getLoggerName();
+
+    /**
+     * The number of log calls.
+     * @return The requested count.
+     */
+    long getRequestedCount();
+
+    /**
+     * The number of messages passed to the logger.
+     * @return The emitted count.
+     */
+    long getEmittedCount();
+
+    /**
+     * The number of log calls whose level is disabled.
+     * @return The suppressed count.
+     */
+    long getSuppressedCount();
+
+    /**
+     * The number of characters passed to the logger.
+     * @return The character count.
+     */
+    long getCharacterCount();
+
+    /**
+     * The time spent formatting the messages.
+     * @return The time in nanoseconds.
+     */
+    long getFormatNanos();
+
+    /**
+     * The time spent in the logger.
+     * @return The time in nanoseconds.
+     */
+    long getBackendNanos();
+
+    /**
+     * The number of messages passed to the logger per level.
+     * @return The emitted count by level name.
+     */
+    Map<String, Long> getEmittedCountByLevel();
+
+    /**
+     * Resets all the counters to zero.
+     */
+    void reset();
+}
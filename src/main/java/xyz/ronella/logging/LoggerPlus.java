@@ -1,13 +1,23 @@
 package xyz.ronella.logging;
 
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
 
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.util.Optional;
-import java.util.StringJoiner;
-import java.util.function.BiFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -19,14 +29,82 @@ import java.util.function.Supplier;
  */
 public class LoggerPlus {
 
-    final private Logger logger;
+    /**
+     * The maximum number of group names whose GroupLogger instances are reused by groupLog
+     * and whose latency histograms are kept.
+     */
+    static final int GROUP_CACHE_LIMIT = 256;
+
+    private static final Map<String, Registration> REGISTRY = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<LoggerPlus> RELEASED = new ReferenceQueue<>();
+
+    /**
+     * Holds a registered LoggerPlus weakly, hence it is released once nothing else references it.
+     */
+    private static final class Registration extends WeakReference<LoggerPlus> {
+        final private String name;
+
+        private Registration(final String name, final LoggerPlus loggerPlus) {
+            super(loggerPlus, RELEASED);
+            this.name = name;
+        }
+    }
+
+    final private String name;
+
+    private volatile Logger logger;
+
+    final private LoggerPlus parent;
+
+    final private LoggerPlus root;
+
+    private volatile long overrideCache = LevelOverrides.STALE;
+
+    private volatile LoggerMetrics metrics;
+
+    private volatile CallSiteProfiler profiler;
+
+    private LevelScope debugScope;
+
+    private LevelScope traceScope;
+
+    private ObjectName metricsName;
+
+    final private Map<String, GroupLogger> headerGroups = new ConcurrentHashMap<>();
+
+    final private Map<String, GroupLogger> plainGroups = new ConcurrentHashMap<>();
+
+    final private Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    final private Map<ThrottledLoggerPlus.Key, ThrottledLoggerPlus> throttles = new ConcurrentHashMap<>();
+
+    final private Map<ThrottledLoggerPlus.Key, ThrottledLoggerPlus> keyedThrottles = new ConcurrentHashMap<>();
 
     /**
      * Creates an instance of LoggerPlus.
      * @param logger Accepts an instance of Logger.
      */
     public LoggerPlus(final Logger logger) {
+        this(null, logger);
+    }
+
+    private LoggerPlus(final String name, final Logger logger) {
+        this.name = name;
         this.logger = logger;
+        this.parent = null;
+        this.root = this;
+    }
+
+    /**
+     * Creates a LoggerPlus that passes its level checks and messages to another LoggerPlus.
+     * @param parent The LoggerPlus to pass to.
+     * @since 1.3.0
+     */
+    LoggerPlus(final LoggerPlus parent) {
+        this.name = parent.name;
+        this.parent = parent;
+        this.root = parent.root;
     }
 
     /**
@@ -59,14 +137,91 @@ public class LoggerPlus {
      */
     public static class GroupLogger implements AutoCloseable {
 
+        /**
+         * The default number of characters a buffered GroupLogger holds before it flushes early.
+         *
+         * @since 1.3.0
+         */
+        public static final int DEFAULT_BUFFER_LIMIT = 8192;
+
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+
+        private static final ThreadLocal<StringBuilder> BUFFERS = new ThreadLocal<>();
+
+        /**
+         * The key of the group name in the KEY_VALUE mode.
+         *
+         * @since 1.3.0
+         */
+        public static final String GROUP_KEY = "group";
+
+        /**
+         * The behaviours of a GroupLogger.
+         *
+         * @author Ron Webb
+         * @since 1.3.0
+         */
+        public enum Mode {
+            /**
+             * Each message is passed to the logger as it is logged.
+             */
+            STANDARD,
+            /**
+             * The messages are collected and passed to the logger as one multi-line message on close.
+             * The message is logged at the most severe level it contains.
+             */
+            BUFFERED,
+            /**
+             * The time from the beginning to the closing of the group is logged on the [END] header
+             * and recorded in the latency histogram of the group name.
+             */
+            TIMED,
+            /**
+             * The group name is passed to the logger as the group key-value pair instead of a message prefix.
+             */
+            KEY_VALUE,
+            /**
+             * The group is nested in the current group of the thread and its path is used as the group name
+             * <i>(e.g. checkout &gt; payment &gt; charge)</i> until closed.
+             */
+            NESTED
+        }
+
         final private LoggerPlus logPlus;
 
         final private String groupName;
 
         final private boolean withHeader;
 
-        final private BiFunction<String, String, String> messageBlock = (String ___methodName, String ___message) ->
-                new StringJoiner(" ").add(___methodName).add(___message).toString();
+        final private String prefix;
+
+        final private String beginMessage;
+
+        final private String endMessage;
+
+        final private int bufferLimit;
+
+        private StringBuilder buffer;
+
+        private Level bufferLevel;
+
+        private Throwable bufferThrowable;
+
+        final private LatencyHistogram latency;
+
+        final private List<KeyValuePair> groupKeyValues;
+
+        final private GroupContext context;
+
+        private long start;
+
+        private GroupSpanEvent span;
+
+        private LevelScope debugScope;
+
+        private LevelScope traceScope;
+
+        private volatile long overrideCache = LevelOverrides.STALE;
 
         /**
          * Create an instance of GroupLogger.
@@ -76,21 +231,323 @@ public class LoggerPlus {
          * @param withHeader Place a log header message in each method class.
          */
         public GroupLogger(final String groupName, final LoggerPlus logPlus, final boolean withHeader) {
+            this(groupName, logPlus, withHeader, true, 0);
+        }
+
+        /**
+         * Create an instance of GroupLogger with modes.
+         *
+         * @param groupName The group name to associate the log messages.
+         * @param logPlus An instance of LoggerPlus.
+         * @param withHeader Place a log header message in each method class.
+         * @param bufferLimit The number of characters a buffered GroupLogger holds before it flushes early.
+         *                    Must be positive.
+         * @param modes The modes of the GroupLogger.
+         * @since 1.3.0
+         */
+        public GroupLogger(final String groupName, final LoggerPlus logPlus, final boolean withHeader,
+                           final int bufferLimit, final Mode ... modes) {
+            this(groupName, logPlus, withHeader, true, requirePositive(bufferLimit), modes);
+        }
+
+        private static int requirePositive(final int bufferLimit) {
+            if (bufferLimit < 1) {
+                throw new IllegalArgumentException("The buffer limit must be positive.");
+            }
+            return bufferLimit;
+        }
+
+        private GroupLogger(final String groupName, final LoggerPlus logPlus, final boolean withHeader,
+                            final boolean begin, final int bufferLimit, final Mode ... modes) {
             this.groupName = groupName;
             this.logPlus = logPlus;
             this.withHeader = withHeader;
-            if (withHeader) {
-                this.logPlus.debug(() -> messageBlock.apply(this.groupName, "[BEGIN]"));
+            this.context = hasMode(modes, Mode.NESTED) ? GroupContext.push(groupName) : null;
+            final var label = null==context ? groupName : context.getPath();
+            this.groupKeyValues = hasMode(modes, Mode.KEY_VALUE) ? List.of(new KeyValuePair(GROUP_KEY, label)) : null;
+            this.prefix = null==groupKeyValues ? label + " " : "";
+            this.beginMessage = prefix.concat("[BEGIN]");
+            this.endMessage = prefix.concat("[END]");
+            this.bufferLimit = bufferLimit;
+            this.latency = hasMode(modes, Mode.TIMED) ? logPlus.latency(groupName) : null;
+            if (hasMode(modes, Mode.BUFFERED)) {
+                final var pooled = BUFFERS.get();
+                BUFFERS.set(null);
+                this.buffer = null==pooled ? new StringBuilder(Math.min(bufferLimit, DEFAULT_BUFFER_LIMIT)) : pooled;
+            }
+            if (begin) {
+                begin(GroupSpanEvent.start(groupName, logPlus));
+            }
+        }
+
+        private static boolean isStandard(final Mode[] modes) {
+            if (null!=modes) {
+                for (final var ___mode : modes) {
+                    if (___mode != Mode.STANDARD) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean hasMode(final Mode[] modes, final Mode mode) {
+            if (null!=modes) {
+                for (final var ___mode : modes) {
+                    if (___mode == mode) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void begin(final GroupSpanEvent span) {
+            this.span = span;
+            if (null!=latency) {
+                start = System.nanoTime();
+            }
+            if (withHeader && isEnabled(Level.DEBUG, beginMessage)) {
+                if (null==buffer) {
+                    send(Level.DEBUG, beginMessage);
+                }
+                else {
+                    buffer(Level.DEBUG, "[BEGIN]");
+                }
+            }
+        }
+
+        private boolean isEnabled(final Level level, final Object site) {
+            final var cache = overrideCache;
+            final var refreshed = LevelOverrides.refresh(cache, groupName);
+            if (refreshed != cache) {
+                overrideCache = refreshed;
+            }
+            final var levelEnabled = (int) refreshed == LevelOverrides.NONE ? logPlus.isLevelEnabled(level)
+                    : LevelOverrides.isEnabled(level, (int) refreshed) && logPlus.isLevelEnabled(level, false);
+            if (logPlus.isCounted(level, levelEnabled) && logPlus.admit(level, site)) {
+                final var profiler = logPlus.root.profiler;
+                if (null!=profiler) {
+                    profiler.begin(level, groupName, CallSiteProfiler.Kind.GROUP);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void send(final Level level, final String message) {
+            if (null==groupKeyValues) {
+                logPlus.emit(level, message);
+            }
+            else {
+                logPlus.emit(level, message, groupKeyValues);
+            }
+        }
+
+        private void send(final Level level, final String message, final Throwable throwable) {
+            if (null==throwable) {
+                send(level, message);
+            }
+            else {
+                logPlus.emit(level, message, groupKeyValues, throwable);
+            }
+        }
+
+        private String prefixed(final String message) {
+            return prefix.concat(String.valueOf(message));
+        }
+
+        void log(final Level level, final String message) {
+            final var event = LogCallEvent.start(level, groupName, logPlus);
+            if (null==buffer) {
+                send(level, prefixed(message));
+            }
+            else {
+                buffer(level, message);
+            }
+            if (null!=event) {
+                event.commit();
+            }
+        }
+
+        private void log(final Level level, final String message, final Throwable throwable) {
+            final var event = LogCallEvent.start(level, groupName, logPlus);
+            if (null==buffer) {
+                send(level, prefixed(message), throwable);
+            }
+            else {
+                buffer(level, message, throwable);
+            }
+            if (null!=event) {
+                event.commit();
+            }
+        }
+
+        void logFormatted(final Level level, final String format, final Object ... values) {
+            final var event = LogCallEvent.start(level, groupName, logPlus);
+            if (null==buffer && null==groupKeyValues) {
+                logPlus.emitFormatted(level, prefix, format, values);
+            }
+            else {
+                final var message = logPlus.formattedMessage(level, format, values);
+                final var throwable = MessageTemplate.trailingThrowable(format, values);
+                if (null==buffer) {
+                    send(level, prefixed(message), throwable);
+                }
+                else {
+                    buffer(level, message, throwable);
+                }
+            }
+            if (null!=event) {
+                event.commit();
+            }
+        }
+
+        private void logSupplied(final Level level, final Supplier<String> message, final Throwable throwable) {
+            if (null==buffer && null==groupKeyValues) {
+                final var event = LogCallEvent.start(level, groupName, logPlus);
+                logPlus.emitSupplied(level, prefix, message, throwable);
+                if (null!=event) {
+                    event.commit();
+                }
+            }
+            else {
+                log(level, message.get(), throwable);
+            }
+        }
+
+        private void buffer(final Level level, final String message) {
+            buffer(level, message, null);
+        }
+
+        private synchronized void buffer(final Level level, final String message, final Throwable throwable) {
+            if (null==buffer) {
+                send(level, prefixed(message), throwable);
+                return;
+            }
+            final var messageLimit = logPlus.messageLimit();
+            if (buffer.length() > 0 && buffer.length() + LINE_SEPARATOR.length() + prefix.length()
+                    + String.valueOf(message).length() > messageLimit) {
+                flush();
+            }
+            if (null!=throwable) {
+                if (null!=bufferThrowable) {
+                    flush();
+                }
+                bufferThrowable = throwable;
+            }
+            if (buffer.length() > 0) {
+                buffer.append(LINE_SEPARATOR);
+            }
+            buffer.append(prefix).append(message);
+            if (null==bufferLevel || level.toInt() > bufferLevel.toInt()) {
+                bufferLevel = level;
+            }
+            if (buffer.length() >= bufferLimit || buffer.length() > messageLimit) {
+                flush();
+            }
+        }
+
+        /**
+         * Passes the buffered messages to the logger as one message.
+         * Does nothing if the GroupLogger is not buffered.
+         *
+         * @since 1.3.0
+         */
+        public synchronized void flush() {
+            if (null!=buffer && buffer.length() > 0) {
+                final var message = buffer.toString();
+                final var level = bufferLevel;
+                final var throwable = bufferThrowable;
+                buffer.setLength(0);
+                bufferLevel = null;
+                bufferThrowable = null;
+                send(level, message, throwable);
             }
         }
 
         /**
          * Add a closing header when the method exits.
+         * A buffered GroupLogger passes its messages to the logger here.
          */
         @Override
         public void close() {
-            if (withHeader) {
-                logPlus.debug(() -> messageBlock.apply(groupName, "[END]"));
+            try {
+                final var elapsed = null==latency ? -1 : System.nanoTime() - start;
+                if (null!=latency) {
+                    latency.record(elapsed);
+                }
+                if (withHeader && isEnabled(Level.DEBUG, endMessage)) {
+                    final var suffix = elapsed < 0 ? "" : " " + elapsedMillis(elapsed);
+                    if (null==buffer) {
+                        send(Level.DEBUG, endMessage.concat(suffix));
+                    }
+                    else {
+                        buffer(Level.DEBUG, "[END]".concat(suffix));
+                    }
+                }
+            }
+            finally {
+                if (null!=context) {
+                    context.pop();
+                }
+                release();
+                final var ended = span;
+                if (null!=ended) {
+                    span = null;
+                    ended.commit();
+                }
+            }
+        }
+
+        private static String elapsedMillis(final long nanos) {
+            final var micros = nanos / 1_000 % 1_000;
+            return nanos / 1_000_000 + (micros < 10 ? ".00" : micros < 100 ? ".0" : ".") + micros + " ms";
+        }
+
+        private synchronized void release() {
+            if (null!=buffer) {
+                try {
+                    flush();
+                }
+                finally {
+                    if (buffer.capacity() <= bufferLimit * 2) {
+                        BUFFERS.set(buffer);
+                    }
+                    buffer = null;
+                }
+            }
+        }
+
+        /**
+         * Runs a block of debug messages only if the debug level is enabled, checking the level once for the block.
+         * @param block The block that logs through the LevelScope.
+         * @since 1.3.0
+         */
+        public void ifDebug(final Consumer<LevelScope> block) {
+            if (null!=block && isEnabled(Level.DEBUG, block.getClass())) {
+                var scope = debugScope;
+                if (null==scope) {
+                    scope = new LevelScope(logPlus, this, Level.DEBUG);
+                    debugScope = scope;
+                }
+                logPlus.runScope(scope, block);
+            }
+        }
+
+        /**
+         * Runs a block of trace messages only if the trace level is enabled, checking the level once for the block.
+         * @param block The block that logs through the LevelScope.
+         * @since 1.3.0
+         */
+        public void ifTrace(final Consumer<LevelScope> block) {
+            if (null!=block && isEnabled(Level.TRACE, block.getClass())) {
+                var scope = traceScope;
+                if (null==scope) {
+                    scope = new LevelScope(logPlus, this, Level.TRACE);
+                    traceScope = scope;
+                }
+                logPlus.runScope(scope, block);
             }
         }
 
@@ -99,7 +556,9 @@ public class LoggerPlus {
          * @param message The message.
          */
         public void debug(final String message) {
-            logPlus.debug(messageBlock.apply(groupName, message));
+            if (isEnabled(Level.DEBUG, message)) {
+                log(Level.DEBUG, message);
+            }
         }
 
         /**
@@ -107,7 +566,34 @@ public class LoggerPlus {
          * @param message The supplier of message.
          */
         public void debug(final Supplier<String> message) {
-            logPlus.debug(() -> messageBlock.apply(groupName, message.get()));
+            if (null!=message && isEnabled(Level.DEBUG, message.getClass())) {
+                logSupplied(Level.DEBUG, message, null);
+            }
+        }
+
+        /**
+         * Accepts a debug message with a throwable passed to the logger as is at method level.
+         * The message is a format whose placeholder, if any, renders the throwable instead.
+         * @param message The message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void debug(final String message, final Throwable throwable) {
+            if (isEnabled(Level.DEBUG, message)) {
+                logFormatted(Level.DEBUG, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message with a throwable passed to the logger as is at method level.
+         * @param message The supplier of message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void debug(final Supplier<String> message, final Throwable throwable) {
+            if (null!=message && isEnabled(Level.DEBUG, message.getClass())) {
+                logSupplied(Level.DEBUG, message, throwable);
+            }
         }
 
         /**
@@ -117,255 +603,2299 @@ public class LoggerPlus {
          * @since 1.2.0
          */
         public void debug(final String format, final Object ... values) {
-            debug(formattedMessage(format, values));
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, values);
+            }
         }
 
         /**
-         * Accepts an info message at method level.
-         * @param message The info message.
+         * Accepts a String.format(ted) debug message with one value.
+         * @param format The format for the message.
+         * @param value The value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void info(final String message) {
-            logPlus.info(messageBlock.apply(groupName,message));
+        public void debug(final String format, final Object value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
         }
 
         /**
-         * Accepts a supplier of a message at method level.
-         * @param message The supplier of message.
+         * Accepts a String.format(ted) debug message with two values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void info(final Supplier<String> message) {
-            logPlus.info(() -> messageBlock.apply(groupName, message.get()));
+        public void debug(final String format, final Object value1, final Object value2) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value1, value2);
+            }
         }
 
         /**
-         * Accepts a String.format(ted) info message.
+         * Accepts a String.format(ted) debug message with three values.
          * @param format The format for the message.
-         * @param values The values of the String.format(ted) message
-         * @since 1.2.0
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void info(final String format, final Object ... values) {
-            info(formattedMessage(format, values));
+        public void debug(final String format, final Object value1, final Object value2, final Object value3) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value1, value2, value3);
+            }
         }
 
         /**
-         * Accepts an error message at method level.
-         * @param message The error message.
+         * Accepts a String.format(ted) debug message with four values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @param value4 The fourth value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void error(final String message) {
-            logPlus.error(messageBlock.apply(groupName,message));
+        public void debug(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value1, value2, value3, value4);
+            }
         }
 
         /**
-         * Accepts a supplier of a message at method level.
-         * @param message The supplier of message.
+         * Accepts a String.format(ted) debug message with an int value.
+         * @param format The format for the message.
+         * @param value The int value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void error(final Supplier<String> message) {
-            logPlus.error(() -> messageBlock.apply(groupName, message.get()));
+        public void debug(final String format, final int value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
         }
 
         /**
-         * Accepts a String.format(ted) error message.
+         * Accepts a String.format(ted) debug message with a long value.
          * @param format The format for the message.
-         * @param values The values of the String.format(ted) message
-         * @since 1.2.0
+         * @param value The long value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void error(final String format, final Object ... values) {
-            error(formattedMessage(format, values));
+        public void debug(final String format, final long value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
         }
 
         /**
-         * Accepts a warning message at method level.
-         * @param message The warning message.
+         * Accepts a String.format(ted) debug message with a double value.
+         * @param format The format for the message.
+         * @param value The double value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void warn(final String message) {
-            logPlus.warn(messageBlock.apply(groupName,message));
+        public void debug(final String format, final double value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
         }
 
         /**
-         * Accepts a supplier of a message at method level.
-         * @param message The supplier of message.
+         * Accepts a String.format(ted) debug message with a float value.
+         * @param format The format for the message.
+         * @param value The float value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void warn(final Supplier<String> message) {
-            logPlus.warn(() -> messageBlock.apply(groupName, message.get()));
+        public void debug(final String format, final float value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
         }
 
         /**
-         * Accepts a String.format(ted) warn message.
+         * Accepts a String.format(ted) debug message with a char value.
          * @param format The format for the message.
-         * @param values The values of the String.format(ted) message
-         * @since 1.2.0
+         * @param value The char value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void warn(final String format, final Object ... values) {
-            warn(formattedMessage(format, values));
+        public void debug(final String format, final char value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
         }
 
         /**
-         * Accepts a trace message at method level.
-         * @param message The trace message.
+         * Accepts a String.format(ted) debug message with a boolean value.
+         * @param format The format for the message.
+         * @param value The boolean value of the String.format(ted) message.
+         * @since 1.3.0
          */
-        public void trace(final String message) {
-            logPlus.trace(messageBlock.apply(groupName,message));
+        public void debug(final String format, final boolean value) {
+            if (isEnabled(Level.DEBUG, format)) {
+                logFormatted(Level.DEBUG, format, value);
+            }
+        }
+
+        /**
+         * Accepts an info message at method level.
+         * @param message The info message.
+         */
+        public void info(final String message) {
+            if (isEnabled(Level.INFO, message)) {
+                log(Level.INFO, message);
+            }
         }
 
         /**
          * Accepts a supplier of a message at method level.
          * @param message The supplier of message.
          */
-        public void trace(final Supplier<String> message) {
-            logPlus.trace(() -> messageBlock.apply(groupName, message.get()));
+        public void info(final Supplier<String> message) {
+            if (null!=message && isEnabled(Level.INFO, message.getClass())) {
+                logSupplied(Level.INFO, message, null);
+            }
         }
 
         /**
-         * Accepts a String.format(ted) trace message.
+         * Accepts an info message with a throwable passed to the logger as is at method level.
+         * The message is a format whose placeholder, if any, renders the throwable instead.
+         * @param message The message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void info(final String message, final Throwable throwable) {
+            if (isEnabled(Level.INFO, message)) {
+                logFormatted(Level.INFO, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message with a throwable passed to the logger as is at method level.
+         * @param message The supplier of message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void info(final Supplier<String> message, final Throwable throwable) {
+            if (null!=message && isEnabled(Level.INFO, message.getClass())) {
+                logSupplied(Level.INFO, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message.
          * @param format The format for the message.
          * @param values The values of the String.format(ted) message
          * @since 1.2.0
          */
-        public void trace(final String format, final Object ... values) {
-            trace(formattedMessage(format, values));
+        public void info(final String format, final Object ... values) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, values);
+            }
         }
-    }
 
-    /**
-     * Return the instance of the logger used.
-     *
-     * @return An instance of Logger.
-     */
-    public Logger getLogger() {
-        return logger;
-    }
+        /**
+         * Accepts a String.format(ted) info message with one value.
+         * @param format The format for the message.
+         * @param value The value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final Object value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with two values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final Object value1, final Object value2) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value1, value2);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with three values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final Object value1, final Object value2, final Object value3) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value1, value2, value3);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with four values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @param value4 The fourth value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value1, value2, value3, value4);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with an int value.
+         * @param format The format for the message.
+         * @param value The int value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final int value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with a long value.
+         * @param format The format for the message.
+         * @param value The long value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final long value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with a double value.
+         * @param format The format for the message.
+         * @param value The double value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final double value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with a float value.
+         * @param format The format for the message.
+         * @param value The float value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final float value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with a char value.
+         * @param format The format for the message.
+         * @param value The char value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final char value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) info message with a boolean value.
+         * @param format The format for the message.
+         * @param value The boolean value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void info(final String format, final boolean value) {
+            if (isEnabled(Level.INFO, format)) {
+                logFormatted(Level.INFO, format, value);
+            }
+        }
+
+        /**
+         * Accepts an error message at method level.
+         * @param message The error message.
+         */
+        public void error(final String message) {
+            if (isEnabled(Level.ERROR, message)) {
+                log(Level.ERROR, message);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message at method level.
+         * @param message The supplier of message.
+         */
+        public void error(final Supplier<String> message) {
+            if (null!=message && isEnabled(Level.ERROR, message.getClass())) {
+                logSupplied(Level.ERROR, message, null);
+            }
+        }
+
+        /**
+         * Accepts an error message with a throwable passed to the logger as is at method level.
+         * The message is a format whose placeholder, if any, renders the throwable instead.
+         * @param message The message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void error(final String message, final Throwable throwable) {
+            if (isEnabled(Level.ERROR, message)) {
+                logFormatted(Level.ERROR, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message with a throwable passed to the logger as is at method level.
+         * @param message The supplier of message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void error(final Supplier<String> message, final Throwable throwable) {
+            if (null!=message && isEnabled(Level.ERROR, message.getClass())) {
+                logSupplied(Level.ERROR, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message.
+         * @param format The format for the message.
+         * @param values The values of the String.format(ted) message
+         * @since 1.2.0
+         */
+        public void error(final String format, final Object ... values) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, values);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with one value.
+         * @param format The format for the message.
+         * @param value The value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final Object value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with two values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final Object value1, final Object value2) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value1, value2);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with three values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final Object value1, final Object value2, final Object value3) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value1, value2, value3);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with four values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @param value4 The fourth value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value1, value2, value3, value4);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with an int value.
+         * @param format The format for the message.
+         * @param value The int value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final int value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with a long value.
+         * @param format The format for the message.
+         * @param value The long value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final long value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with a double value.
+         * @param format The format for the message.
+         * @param value The double value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final double value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with a float value.
+         * @param format The format for the message.
+         * @param value The float value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final float value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with a char value.
+         * @param format The format for the message.
+         * @param value The char value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final char value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) error message with a boolean value.
+         * @param format The format for the message.
+         * @param value The boolean value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void error(final String format, final boolean value) {
+            if (isEnabled(Level.ERROR, format)) {
+                logFormatted(Level.ERROR, format, value);
+            }
+        }
+
+        /**
+         * Accepts a warning message at method level.
+         * @param message The warning message.
+         */
+        public void warn(final String message) {
+            if (isEnabled(Level.WARN, message)) {
+                log(Level.WARN, message);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message at method level.
+         * @param message The supplier of message.
+         */
+        public void warn(final Supplier<String> message) {
+            if (null!=message && isEnabled(Level.WARN, message.getClass())) {
+                logSupplied(Level.WARN, message, null);
+            }
+        }
+
+        /**
+         * Accepts a warn message with a throwable passed to the logger as is at method level.
+         * The message is a format whose placeholder, if any, renders the throwable instead.
+         * @param message The message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void warn(final String message, final Throwable throwable) {
+            if (isEnabled(Level.WARN, message)) {
+                logFormatted(Level.WARN, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message with a throwable passed to the logger as is at method level.
+         * @param message The supplier of message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void warn(final Supplier<String> message, final Throwable throwable) {
+            if (null!=message && isEnabled(Level.WARN, message.getClass())) {
+                logSupplied(Level.WARN, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message.
+         * @param format The format for the message.
+         * @param values The values of the String.format(ted) message
+         * @since 1.2.0
+         */
+        public void warn(final String format, final Object ... values) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, values);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with one value.
+         * @param format The format for the message.
+         * @param value The value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final Object value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with two values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final Object value1, final Object value2) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value1, value2);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with three values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final Object value1, final Object value2, final Object value3) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value1, value2, value3);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with four values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @param value4 The fourth value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value1, value2, value3, value4);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with an int value.
+         * @param format The format for the message.
+         * @param value The int value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final int value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with a long value.
+         * @param format The format for the message.
+         * @param value The long value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final long value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with a double value.
+         * @param format The format for the message.
+         * @param value The double value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final double value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with a float value.
+         * @param format The format for the message.
+         * @param value The float value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final float value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with a char value.
+         * @param format The format for the message.
+         * @param value The char value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final char value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) warn message with a boolean value.
+         * @param format The format for the message.
+         * @param value The boolean value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void warn(final String format, final boolean value) {
+            if (isEnabled(Level.WARN, format)) {
+                logFormatted(Level.WARN, format, value);
+            }
+        }
+
+        /**
+         * Accepts a trace message at method level.
+         * @param message The trace message.
+         */
+        public void trace(final String message) {
+            if (isEnabled(Level.TRACE, message)) {
+                log(Level.TRACE, message);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message at method level.
+         * @param message The supplier of message.
+         */
+        public void trace(final Supplier<String> message) {
+            if (null!=message && isEnabled(Level.TRACE, message.getClass())) {
+                logSupplied(Level.TRACE, message, null);
+            }
+        }
+
+        /**
+         * Accepts a trace message with a throwable passed to the logger as is at method level.
+         * The message is a format whose placeholder, if any, renders the throwable instead.
+         * @param message The message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void trace(final String message, final Throwable throwable) {
+            if (isEnabled(Level.TRACE, message)) {
+                logFormatted(Level.TRACE, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a supplier of a message with a throwable passed to the logger as is at method level.
+         * @param message The supplier of message.
+         * @param throwable The throwable.
+         * @since 1.3.0
+         */
+        public void trace(final Supplier<String> message, final Throwable throwable) {
+            if (null!=message && isEnabled(Level.TRACE, message.getClass())) {
+                logSupplied(Level.TRACE, message, throwable);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message.
+         * @param format The format for the message.
+         * @param values The values of the String.format(ted) message
+         * @since 1.2.0
+         */
+        public void trace(final String format, final Object ... values) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, values);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with one value.
+         * @param format The format for the message.
+         * @param value The value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final Object value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with two values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final Object value1, final Object value2) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value1, value2);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with three values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final Object value1, final Object value2, final Object value3) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value1, value2, value3);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with four values.
+         * @param format The format for the message.
+         * @param value1 The first value of the String.format(ted) message.
+         * @param value2 The second value of the String.format(ted) message.
+         * @param value3 The third value of the String.format(ted) message.
+         * @param value4 The fourth value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value1, value2, value3, value4);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with an int value.
+         * @param format The format for the message.
+         * @param value The int value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final int value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with a long value.
+         * @param format The format for the message.
+         * @param value The long value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final long value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with a double value.
+         * @param format The format for the message.
+         * @param value The double value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final double value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with a float value.
+         * @param format The format for the message.
+         * @param value The float value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final float value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with a char value.
+         * @param format The format for the message.
+         * @param value The char value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final char value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+
+        /**
+         * Accepts a String.format(ted) trace message with a boolean value.
+         * @param format The format for the message.
+         * @param value The boolean value of the String.format(ted) message.
+         * @since 1.3.0
+         */
+        public void trace(final String format, final boolean value) {
+            if (isEnabled(Level.TRACE, format)) {
+                logFormatted(Level.TRACE, format, value);
+            }
+        }
+    }
+
+    /**
+     * Starts a error message with key-value pairs.
+     * @return An instance of LogEvent that does nothing if the level is disabled.
+     *
+     * @since 1.3.0
+     */
+    public LogEvent atError() {
+        return at(Level.ERROR);
+    }
+
+    /**
+     * Starts a warn message with key-value pairs.
+     * @return An instance of LogEvent that does nothing if the level is disabled.
+     *
+     * @since 1.3.0
+     */
+    public LogEvent atWarn() {
+        return at(Level.WARN);
+    }
+
+    /**
+     * Starts a info message with key-value pairs.
+     * @return An instance of LogEvent that does nothing if the level is disabled.
+     *
+     * @since 1.3.0
+     */
+    public LogEvent atInfo() {
+        return at(Level.INFO);
+    }
+
+    /**
+     * Starts a debug message with key-value pairs.
+     * @return An instance of LogEvent that does nothing if the level is disabled.
+     *
+     * @since 1.3.0
+     */
+    public LogEvent atDebug() {
+        return at(Level.DEBUG);
+    }
+
+    /**
+     * Starts a trace message with key-value pairs.
+     * @return An instance of LogEvent that does nothing if the level is disabled.
+     *
+     * @since 1.3.0
+     */
+    public LogEvent atTrace() {
+        return at(Level.TRACE);
+    }
+
+    /**
+     * Runs a block of debug messages only if the debug level is enabled, checking the level once for the block.
+     * @param block The block that logs through the LevelScope.
+     *
+     * @since 1.3.0
+     */
+    public void ifDebug(final Consumer<LevelScope> block) {
+        if (null!=block && isEnabled(Level.DEBUG, block.getClass())) {
+            var scope = debugScope;
+            if (null==scope) {
+                scope = new LevelScope(this, null, Level.DEBUG);
+                debugScope = scope;
+            }
+            runScope(scope, block);
+        }
+    }
+
+    /**
+     * Runs a block of trace messages only if the trace level is enabled, checking the level once for the block.
+     * @param block The block that logs through the LevelScope.
+     *
+     * @since 1.3.0
+     */
+    public void ifTrace(final Consumer<LevelScope> block) {
+        if (null!=block && isEnabled(Level.TRACE, block.getClass())) {
+            var scope = traceScope;
+            if (null==scope) {
+                scope = new LevelScope(this, null, Level.TRACE);
+                traceScope = scope;
+            }
+            runScope(scope, block);
+        }
+    }
+
+    private LogEvent at(final Level level) {
+        return isCounted(level, isLevelEnabled(level)) ? new LogEvent(this, level) : LogEvent.DISABLED;
+    }
+
+    /**
+     * Return the instance of the logger used.
+     *
+     * @return An instance of Logger.
+     */
+    public Logger getLogger() {
+        return logger();
+    }
+
+    private Logger logger() {
+        final var bound = root.logger;
+        return null!=bound ? bound : root.bind();
+    }
+
+    private synchronized Logger bind() {
+        if (null==logger) {
+            logger = LoggerFactory.getLogger(name);
+        }
+        return logger;
+    }
+
+    /**
+     * Return the name of the logger. The logger of a registered LoggerPlus is not bound by this method.
+     *
+     * @return The logger name.
+     * @since 1.3.0
+     */
+    public String getName() {
+        return null!=name ? name : logger().getName();
+    }
+
+    /**
+     * Return the registered LoggerPlus of a class, registering it on the first call. The logger is only bound on
+     * the first level check or message, hence no logging backend is initialized while the class is loaded.
+     * @param clazz The class whose name is the logger name.
+     * @return The shared instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public static LoggerPlus of(final Class<?> clazz) {
+        if (null==clazz) {
+            throw new IllegalArgumentException("The class is required.");
+        }
+        return of(clazz.getName());
+    }
+
+    /**
+     * Return the registered LoggerPlus of a logger name, registering it on the first call. The logger is only
+     * bound on the first level check or message, hence no logging backend is initialized while the class is loaded.
+     * The registry holds the instance weakly, hence keep it <i>(e.g. in a static field)</i> for as long as it is
+     * used. An instance no longer referenced is released and the next call registers a new one.
+     * @param name The logger name.
+     * @return The shared instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public static LoggerPlus of(final String name) {
+        if (null==name) {
+            throw new IllegalArgumentException("The name is required.");
+        }
+        final var registration = REGISTRY.get(name);
+        final var registered = null==registration ? null : registration.get();
+        if (null!=registered) {
+            return registered;
+        }
+        purge();
+        while (true) {
+            final var current = REGISTRY.compute(name, (___name, ___registration) ->
+                    null!=___registration && null!=___registration.get() ? ___registration
+                            : new Registration(___name, new LoggerPlus(___name, null)));
+            final var loggerPlus = current.get();
+            if (null!=loggerPlus) {
+                return loggerPlus;
+            }
+            // Released before it was returned, register again.
+        }
+    }
+
+    private static void purge() {
+        Reference<? extends LoggerPlus> released;
+        while (null!=(released = RELEASED.poll())) {
+            final var registration = (Registration) released;
+            REGISTRY.remove(registration.name, registration);
+        }
+    }
+
+    /**
+     * Return all the registered instances of LoggerPlus that are still referenced
+     * <i>(e.g. to enable their metrics)</i>.
+     *
+     * @return An unmodifiable snapshot of the registered instances.
+     * @since 1.3.0
+     */
+    public static Collection<LoggerPlus> getRegistered() {
+        purge();
+        final var registered = new ArrayList<LoggerPlus>(REGISTRY.size());
+        for (final var registration : REGISTRY.values()) {
+            final var loggerPlus = registration.get();
+            if (null!=loggerPlus) {
+                registered.add(loggerPlus);
+            }
+        }
+        return Collections.unmodifiableList(registered);
+    }
+
+    /**
+     * Return the number of failures on the background threads of LoggerPlus <i>(e.g. a message the drainer of an
+     * AsyncLoggerPlus cannot pass to the logger)</i>. Each failure is also logged as an error by the logger of the
+     * LoggerPlus class.
+     *
+     * @return The failure count.
+     * @since 1.3.0
+     */
+    public static long getInternalErrorCount() {
+        return InternalErrors.getCount();
+    }
+
+    /**
+     * Accepts a debug message.
+     * @param message The message.
+     */
+    public void debug(final String message) {
+        if (isEnabled(Level.DEBUG, message)) {
+            emit(Level.DEBUG, message);
+        }
+    }
+
+    /**
+     * Checks if a message must be logged. Called before any message is built.
+     * @param level The level of the message.
+     * @param site What identifies where the message is logged (i.e. the message, the format or the supplier class).
+     * @return true if the message must be logged.
+     * @since 1.3.0
+     */
+    final boolean isEnabled(final Level level, final Object site) {
+        if (isCounted(level, isLevelEnabled(level)) && admit(level, site)) {
+            profile(level, site);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts an admitted message in the profiler, if enabled.
+     * @param level The level of the message.
+     * @param site What identifies where the message is logged (i.e. the message, the format or the supplier class).
+     * @since 1.3.0
+     */
+    void profile(final Level level, final Object site) {
+        final var profiler = root.profiler;
+        if (null!=profiler) {
+            profiler.begin(level, site);
+        }
+    }
+
+    /**
+     * Runs a block of messages that are all added to the statement of the block in the profiler, if enabled.
+     * @param scope The LevelScope passed to the block.
+     * @param block The block that logs through the LevelScope.
+     * @since 1.3.0
+     */
+    final void runScope(final LevelScope scope, final Consumer<LevelScope> block) {
+        final var profiler = root.profiler;
+        if (null==profiler) {
+            block.accept(scope);
+            return;
+        }
+        final var previous = profiler.pin();
+        try {
+            block.accept(scope);
+        }
+        finally {
+            profiler.unpin(previous);
+        }
+    }
+
+    /**
+     * Runs a write of the LoggerPlus itself <i>(e.g. a summary)</i> that the profiler, if enabled, does not add to
+     * the statement being logged.
+     * @param write Passes the message to the logger.
+     * @since 1.3.0
+     */
+    final void unattributed(final Runnable write) {
+        final var profiler = root.profiler;
+        if (null==profiler) {
+            write.run();
+            return;
+        }
+        profiler.unattributed(write);
+    }
+
+    /**
+     * Counts a log call in the metrics, if enabled.
+     * @param level The level of the log call.
+     * @param levelEnabled The result of the level check.
+     * @return The result of the level check.
+     * @since 1.3.0
+     */
+    boolean isCounted(final Level level, final boolean levelEnabled) {
+        final var metrics = root.metrics;
+        if (null!=metrics) {
+            metrics.requested(level);
+            if (!levelEnabled) {
+                metrics.suppressed(level);
+            }
+        }
+        return levelEnabled;
+    }
+
+    /**
+     * Checks the level of a message against the level set in LevelOverrides for the logger name
+     * and the level of the logger. An override can only restrict the level of the logger.
+     * @param level The level of the message.
+     * @return true if the level is enabled.
+     * @since 1.3.0
+     */
+    final boolean isLevelEnabled(final Level level) {
+        return isLevelEnabled(level, true);
+    }
+
+    /**
+     * Checks the level of a message against the level of the logger and, if requested, the level set in
+     * LevelOverrides for the logger name. A GroupLogger with an override of its own skips the one of the logger
+     * name. Override it to change the levels enabled by a view.
+     * @param level The level of the message.
+     * @param withLoggerOverride Whether the override of the logger name applies.
+     * @return true if the level is enabled.
+     * @since 1.3.0
+     */
+    boolean isLevelEnabled(final Level level, final boolean withLoggerOverride) {
+        if (null!=parent) {
+            return parent.isLevelEnabled(level, withLoggerOverride);
+        }
+        if (!withLoggerOverride) {
+            return isLoggerEnabled(level);
+        }
+        final var cache = overrideCache;
+        final var refreshed = LevelOverrides.refresh(cache, getName());
+        if (refreshed != cache) {
+            overrideCache = refreshed;
+        }
+        if ((int) refreshed != LevelOverrides.NONE && !LevelOverrides.isEnabled(level, (int) refreshed)) {
+            return false;
+        }
+        return isLoggerEnabled(level);
+    }
+
+    private boolean isLoggerEnabled(final Level level) {
+        final var logger = logger();
+        return switch (level) {
+            case ERROR -> logger.isErrorEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case INFO -> logger.isInfoEnabled();
+            case DEBUG -> logger.isDebugEnabled();
+            default -> logger.isTraceEnabled();
+        };
+    }
+
+    /**
+     * Checks if a message whose level is enabled must be logged. Called before any message is built.
+     * @param level The level of the message.
+     * @param site What identifies where the message is logged (i.e. the message, the format or the supplier class).
+     * @return true if the message must be logged.
+     * @since 1.3.0
+     */
+    boolean admit(final Level level, final Object site) {
+        return null==parent || parent.admit(level, site);
+    }
+
+    /**
+     * The maximum number of characters of a message before it is cut. A buffered GroupLogger flushes before its
+     * messages exceed it, hence only a single message longer than it is cut.
+     * @return Integer.MAX_VALUE if there is no limit.
+     * @since 1.3.0
+     */
+    int messageLimit() {
+        return null==parent ? Integer.MAX_VALUE : parent.messageLimit();
+    }
+
+    /**
+     * Passes a message that already passed the level check to the logger.
+     * @param level The level of the message.
+     * @param message The message.
+     * @since 1.3.0
+     */
+    void emit(final Level level, final String message) {
+        if (null!=parent) {
+            parent.emit(level, message);
+            return;
+        }
+        write(level, message, null, null);
+    }
+
+    /**
+     * Passes a message with key-value pairs that already passed the level check to the logger.
+     * @param level The level of the message.
+     * @param message The message.
+     * @param keyValues The key-value pairs. Null if none.
+     * @since 1.3.0
+     */
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues) {
+        if (null!=parent) {
+            parent.emit(level, message, keyValues);
+            return;
+        }
+        write(level, message, keyValues, null);
+    }
+
+    /**
+     * Passes a message with a throwable that already passed the level check to the logger.
+     * The throwable is passed to the logger as is.
+     * @param level The level of the message.
+     * @param message The message.
+     * @param keyValues The key-value pairs. Null if none.
+     * @param throwable The throwable. Null if none.
+     * @since 1.3.0
+     */
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if (null!=parent) {
+            parent.emit(level, message, keyValues, throwable);
+            return;
+        }
+        write(level, message, keyValues, throwable);
+    }
+
+    /**
+     * Formats a message that already passed the level check and passes it to the logger.
+     * A trailing throwable not consumed by the format is passed to the logger as is.
+     * @param level The level of the message.
+     * @param prefix The text before the formatted message. Null if none.
+     * @param format The format for the message.
+     * @param values The values of the message.
+     * @since 1.3.0
+     */
+    void emitFormatted(final Level level, final String prefix, final String format, final Object ... values) {
+        final var message = prefixedMessage(level, prefix, format, values);
+        final var throwable = MessageTemplate.trailingThrowable(format, values);
+        if (null==throwable) {
+            emit(level, message);
+        }
+        else {
+            emit(level, message, null, throwable);
+        }
+    }
+
+    /**
+     * Evaluates a supplied message that already passed the level check and passes it to the logger.
+     * @param level The level of the message.
+     * @param prefix The text before the supplied message. Null if none.
+     * @param message The supplier of the message.
+     * @param throwable The throwable. Null if none.
+     * @since 1.3.0
+     */
+    void emitSupplied(final Level level, final String prefix, final Supplier<String> message,
+                      final Throwable throwable) {
+        final var text = null==prefix ? message.get() : prefix.concat(String.valueOf(message.get()));
+        if (null==throwable) {
+            emit(level, text);
+        }
+        else {
+            emit(level, text, null, throwable);
+        }
+    }
+
+    /**
+     * Renders the message and the key-value pairs of a LogEvent that already passed the level check
+     * and passes them to the logger.
+     * @param level The level of the message.
+     * @param event The LogEvent.
+     * @since 1.3.0
+     */
+    void emitEvent(final Level level, final LogEvent event) {
+        emit(level, event.message(), event.keyValues());
+    }
+
+    private void write(final Level level, final String message, final List<KeyValuePair> keyValues,
+                       final Throwable throwable) {
+        final var metrics = this.metrics;
+        final var profiler = this.profiler;
+        final var start = null==metrics && null==profiler ? 0L : System.nanoTime();
+        final var logger = logger();
+        if (null!=keyValues && !keyValues.isEmpty()) {
+            var builder = logger.atLevel(level);
+            for (final var keyValue : keyValues) {
+                builder = builder.addKeyValue(keyValue.key, keyValue.value);
+            }
+            if (null!=throwable) {
+                builder = builder.setCause(throwable);
+            }
+            builder.log(message);
+        }
+        else if (null!=throwable) {
+            switch (level) {
+                case ERROR -> logger.error(message, throwable);
+                case WARN -> logger.warn(message, throwable);
+                case INFO -> logger.info(message, throwable);
+                case DEBUG -> logger.debug(message, throwable);
+                default -> logger.trace(message, throwable);
+            }
+        }
+        else {
+            switch (level) {
+                case ERROR -> logger.error(message);
+                case WARN -> logger.warn(message);
+                case INFO -> logger.info(message);
+                case DEBUG -> logger.debug(message);
+                default -> logger.trace(message);
+            }
+        }
+        if (null!=metrics || null!=profiler) {
+            final var length = null==message ? 0 : message.length();
+            final var nanos = System.nanoTime() - start;
+            if (null!=metrics) {
+                metrics.emitted(level, length, nanos);
+            }
+            if (null!=profiler) {
+                profiler.emitted(length, nanos);
+            }
+        }
+    }
+
+    /**
+     * Formats a message that already passed the level check.
+     * @param level The level of the message.
+     * @param format The format for the message.
+     * @param values The values of the message.
+     * @return The formatted message.
+     * @since 1.3.0
+     */
+    String formattedMessage(final Level level, final String format, final Object ... values) {
+        final var metrics = root.metrics;
+        final var profiler = root.profiler;
+        if (null==metrics && null==profiler) {
+            return MessageTemplate.format(format, values);
+        }
+        final var start = System.nanoTime();
+        final var message = MessageTemplate.format(format, values);
+        formatted(metrics, profiler, level, System.nanoTime() - start);
+        return message;
+    }
+
+    private String prefixedMessage(final Level level, final String prefix, final String format,
+                                   final Object ... values) {
+        final var metrics = root.metrics;
+        final var profiler = root.profiler;
+        if (null==metrics && null==profiler) {
+            return MessageTemplate.formatPrefixed(prefix, format, values);
+        }
+        final var start = System.nanoTime();
+        final var message = MessageTemplate.formatPrefixed(prefix, format, values);
+        formatted(metrics, profiler, level, System.nanoTime() - start);
+        return message;
+    }
+
+    private static void formatted(final LoggerMetrics metrics, final CallSiteProfiler profiler, final Level level,
+                                  final long nanos) {
+        if (null!=metrics) {
+            metrics.formatted(level, nanos);
+        }
+        if (null!=profiler) {
+            profiler.formatted(nanos);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message.
+     * @param format The format for the message.
+     * @param values The values of the String.format(ted) message
+     * @since 1.2.0
+     */
+    public void debug(final String format, final Object ... values) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, values);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with one value.
+     * @param format The format for the message.
+     * @param value The value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final Object value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with two values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final Object value1, final Object value2) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value1, value2);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with three values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final Object value1, final Object value2, final Object value3) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value1, value2, value3);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with four values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @param value4 The fourth value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value1, value2, value3, value4);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with an int value.
+     * @param format The format for the message.
+     * @param value The int value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final int value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with a long value.
+     * @param format The format for the message.
+     * @param value The long value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final long value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with a double value.
+     * @param format The format for the message.
+     * @param value The double value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final double value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with a float value.
+     * @param format The format for the message.
+     * @param value The float value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final float value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with a char value.
+     * @param format The format for the message.
+     * @param value The char value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final char value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) debug message with a boolean value.
+     * @param format The format for the message.
+     * @param value The boolean value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void debug(final String format, final boolean value) {
+        if (isEnabled(Level.DEBUG, format)) {
+            emitFormatted(Level.DEBUG, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message.
+     * @param message The supplier of message.
+     */
+    public void debug(final Supplier<String> message) {
+        if (null!=message && isEnabled(Level.DEBUG, message.getClass())) {
+            emitSupplied(Level.DEBUG, null, message, null);
+        }
+    }
+
+    /**
+     * Accepts a debug message with a throwable passed to the logger as is.
+     * The message is a format whose placeholder, if any, renders the throwable instead.
+     * @param message The debug message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void debug(final String message, final Throwable throwable) {
+        if (isEnabled(Level.DEBUG, message)) {
+            emitFormatted(Level.DEBUG, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message with a throwable passed to the logger as is.
+     * @param message The supplier of message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void debug(final Supplier<String> message, final Throwable throwable) {
+        if (null!=message && isEnabled(Level.DEBUG, message.getClass())) {
+            emitSupplied(Level.DEBUG, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts an info message.
+     * @param message The info message.
+     */
+    public void info(final String message) {
+        if (isEnabled(Level.INFO, message)) {
+            emit(Level.INFO, message);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message.
+     * @param format The format for the message.
+     * @param values The values of the String.format(ted) message
+     * @since 1.2.0
+     */
+    public void info(final String format, final Object ... values) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, values);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with one value.
+     * @param format The format for the message.
+     * @param value The value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final Object value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with two values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final Object value1, final Object value2) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value1, value2);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with three values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final Object value1, final Object value2, final Object value3) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value1, value2, value3);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with four values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @param value4 The fourth value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value1, value2, value3, value4);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with an int value.
+     * @param format The format for the message.
+     * @param value The int value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final int value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with a long value.
+     * @param format The format for the message.
+     * @param value The long value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final long value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with a double value.
+     * @param format The format for the message.
+     * @param value The double value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final double value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with a float value.
+     * @param format The format for the message.
+     * @param value The float value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final float value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with a char value.
+     * @param format The format for the message.
+     * @param value The char value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final char value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) info message with a boolean value.
+     * @param format The format for the message.
+     * @param value The boolean value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void info(final String format, final boolean value) {
+        if (isEnabled(Level.INFO, format)) {
+            emitFormatted(Level.INFO, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message.
+     * @param message The supplier of message.
+     */
+    public void info(final Supplier<String> message) {
+        if (null!=message && isEnabled(Level.INFO, message.getClass())) {
+            emitSupplied(Level.INFO, null, message, null);
+        }
+    }
+
+    /**
+     * Accepts an info message with a throwable passed to the logger as is.
+     * The message is a format whose placeholder, if any, renders the throwable instead.
+     * @param message The info message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void info(final String message, final Throwable throwable) {
+        if (isEnabled(Level.INFO, message)) {
+            emitFormatted(Level.INFO, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message with a throwable passed to the logger as is.
+     * @param message The supplier of message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void info(final Supplier<String> message, final Throwable throwable) {
+        if (null!=message && isEnabled(Level.INFO, message.getClass())) {
+            emitSupplied(Level.INFO, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts an error message.
+     * @param message The error message.
+     */
+    public void error(final String message) {
+        if (isEnabled(Level.ERROR, message)) {
+            emit(Level.ERROR, message);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message.
+     * @param message The supplier of message.
+     */
+    public void error(final Supplier<String> message) {
+        if (null!=message && isEnabled(Level.ERROR, message.getClass())) {
+            emitSupplied(Level.ERROR, null, message, null);
+        }
+    }
+
+    /**
+     * Accepts an error message with a throwable passed to the logger as is.
+     * The message is a format whose placeholder, if any, renders the throwable instead.
+     * @param message The error message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void error(final String message, final Throwable throwable) {
+        if (isEnabled(Level.ERROR, message)) {
+            emitFormatted(Level.ERROR, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message with a throwable passed to the logger as is.
+     * @param message The supplier of message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void error(final Supplier<String> message, final Throwable throwable) {
+        if (null!=message && isEnabled(Level.ERROR, message.getClass())) {
+            emitSupplied(Level.ERROR, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message.
+     * @param format The format for the message.
+     * @param values The values of the String.format(ted) message
+     * @since 1.2.0
+     */
+    public void error(final String format, final Object ... values) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, values);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with one value.
+     * @param format The format for the message.
+     * @param value The value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final Object value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with two values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final Object value1, final Object value2) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value1, value2);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with three values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final Object value1, final Object value2, final Object value3) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value1, value2, value3);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with four values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @param value4 The fourth value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value1, value2, value3, value4);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with an int value.
+     * @param format The format for the message.
+     * @param value The int value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final int value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with a long value.
+     * @param format The format for the message.
+     * @param value The long value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final long value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with a double value.
+     * @param format The format for the message.
+     * @param value The double value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final double value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with a float value.
+     * @param format The format for the message.
+     * @param value The float value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final float value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with a char value.
+     * @param format The format for the message.
+     * @param value The char value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final char value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) error message with a boolean value.
+     * @param format The format for the message.
+     * @param value The boolean value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void error(final String format, final boolean value) {
+        if (isEnabled(Level.ERROR, format)) {
+            emitFormatted(Level.ERROR, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a warning message.
+     * @param message The warning message.
+     */
+    public void warn(final String message) {
+        if (isEnabled(Level.WARN, message)) {
+            emit(Level.WARN, message);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message.
+     * @param format The format for the message.
+     * @param values The values of the String.format(ted) message
+     * @since 1.2.0
+     */
+    public void warn(final String format, final Object ... values) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, values);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with one value.
+     * @param format The format for the message.
+     * @param value The value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final Object value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with two values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final Object value1, final Object value2) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value1, value2);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with three values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final Object value1, final Object value2, final Object value3) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value1, value2, value3);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with four values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @param value4 The fourth value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value1, value2, value3, value4);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with an int value.
+     * @param format The format for the message.
+     * @param value The int value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final int value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with a long value.
+     * @param format The format for the message.
+     * @param value The long value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final long value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) warn message with a double value.
+     * @param format The format for the message.
+     * @param value The double value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final double value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
+    }
 
     /**
-     * Accepts a debug message.
-     * @param message The message.
+     * Accepts a String.format(ted) warn message with a float value.
+     * @param format The format for the message.
+     * @param value The float value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void debug(final String message) {
-        logger.debug(message);
+    public void warn(final String format, final float value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
     }
 
-    private static String formattedMessage(final String format, final Object ... values) {
-        return String.format(format, values);
+    /**
+     * Accepts a String.format(ted) warn message with a char value.
+     * @param format The format for the message.
+     * @param value The char value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void warn(final String format, final char value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
     }
 
     /**
-     * Accepts a String.format(ted) debug message.
+     * Accepts a String.format(ted) warn message with a boolean value.
      * @param format The format for the message.
-     * @param values The values of the String.format(ted) message
-     * @since 1.2.0
+     * @param value The boolean value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void debug(final String format, final Object ... values) {
-        debug(formattedMessage(format, values));
+    public void warn(final String format, final boolean value) {
+        if (isEnabled(Level.WARN, format)) {
+            emitFormatted(Level.WARN, null, format, value);
+        }
     }
 
     /**
      * Accepts a supplier of a message.
      * @param message The supplier of message.
      */
-    public void debug(final Supplier<String> message) {
-        if (logger.isDebugEnabled()) {
-            Optional.ofNullable(message).ifPresent(___message -> logger.debug(___message.get()));
+    public void warn(final Supplier<String> message) {
+        if (null!=message && isEnabled(Level.WARN, message.getClass())) {
+            emitSupplied(Level.WARN, null, message, null);
         }
     }
 
     /**
-     * Accepts an info message.
-     * @param message The info message.
+     * Accepts a warn message with a throwable passed to the logger as is.
+     * The message is a format whose placeholder, if any, renders the throwable instead.
+     * @param message The warn message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
      */
-    public void info(final String message) {
-        logger.info(message);
+    public void warn(final String message, final Throwable throwable) {
+        if (isEnabled(Level.WARN, message)) {
+            emitFormatted(Level.WARN, null, message, throwable);
+        }
     }
 
     /**
-     * Accepts a String.format(ted) info message.
+     * Accepts a supplier of a message with a throwable passed to the logger as is.
+     * @param message The supplier of message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void warn(final Supplier<String> message, final Throwable throwable) {
+        if (null!=message && isEnabled(Level.WARN, message.getClass())) {
+            emitSupplied(Level.WARN, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accept a trace message.
+     * @param message The trace message.
+     */
+    public void trace(final String message) {
+        if (isEnabled(Level.TRACE, message)) {
+            emit(Level.TRACE, message);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) trace message.
      * @param format The format for the message.
      * @param values The values of the String.format(ted) message
      * @since 1.2.0
      */
-    public void info(final String format, final Object ... values) {
-        info(formattedMessage(format, values));
+    public void trace(final String format, final Object ... values) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, values);
+        }
     }
 
     /**
-     * Accepts a supplier of a message.
-     * @param message The supplier of message.
+     * Accepts a String.format(ted) trace message with one value.
+     * @param format The format for the message.
+     * @param value The value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void info(final Supplier<String> message) {
-        if (logger.isInfoEnabled()) {
-            Optional.ofNullable(message).ifPresent(___message -> logger.info(___message.get()));
+    public void trace(final String format, final Object value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
         }
     }
 
     /**
-     * Accepts an error message.
-     * @param message The error message.
+     * Accepts a String.format(ted) trace message with two values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void error(final String message) {
-        logger.error(message);
+    public void trace(final String format, final Object value1, final Object value2) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value1, value2);
+        }
     }
 
     /**
-     * Accepts a supplier of a message.
-     * @param message The supplier of message.
+     * Accepts a String.format(ted) trace message with three values.
+     * @param format The format for the message.
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void error(final Supplier<String> message) {
-        if (logger.isErrorEnabled()) {
-            Optional.ofNullable(message).ifPresent(___message -> logger.error(___message.get()));
+    public void trace(final String format, final Object value1, final Object value2, final Object value3) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value1, value2, value3);
         }
     }
 
     /**
-     * Accepts a String.format(ted) error message.
+     * Accepts a String.format(ted) trace message with four values.
      * @param format The format for the message.
-     * @param values The values of the String.format(ted) message
-     * @since 1.2.0
+     * @param value1 The first value of the String.format(ted) message.
+     * @param value2 The second value of the String.format(ted) message.
+     * @param value3 The third value of the String.format(ted) message.
+     * @param value4 The fourth value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void error(final String format, final Object ... values) {
-        error(formattedMessage(format, values));
+    public void trace(final String format, final Object value1, final Object value2, final Object value3, final Object value4) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value1, value2, value3, value4);
+        }
     }
 
     /**
-     * Accepts a warning message.
-     * @param message The warning message.
+     * Accepts a String.format(ted) trace message with an int value.
+     * @param format The format for the message.
+     * @param value The int value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void warn(final String message) {
-        logger.warn(message);
+    public void trace(final String format, final int value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
+        }
     }
 
     /**
-     * Accepts a String.format(ted) warn message.
+     * Accepts a String.format(ted) trace message with a long value.
      * @param format The format for the message.
-     * @param values The values of the String.format(ted) message
-     * @since 1.2.0
+     * @param value The long value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void warn(final String format, final Object ... values) {
-        warn(formattedMessage(format, values));
+    public void trace(final String format, final long value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
+        }
     }
 
     /**
-     * Accepts a supplier of a message.
-     * @param message The supplier of message.
+     * Accepts a String.format(ted) trace message with a double value.
+     * @param format The format for the message.
+     * @param value The double value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void warn(final Supplier<String> message) {
-        if (logger.isWarnEnabled()) {
-            Optional.ofNullable(message).ifPresent(___message -> logger.warn(___message.get()));
+    public void trace(final String format, final double value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
         }
     }
 
     /**
-     * Accept a trace message.
-     * @param message The trace message.
+     * Accepts a String.format(ted) trace message with a float value.
+     * @param format The format for the message.
+     * @param value The float value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void trace(final String message) {
-        logger.trace(message);
+    public void trace(final String format, final float value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
+        }
     }
 
     /**
-     * Accepts a String.format(ted) trace message.
+     * Accepts a String.format(ted) trace message with a char value.
      * @param format The format for the message.
-     * @param values The values of the String.format(ted) message
-     * @since 1.2.0
+     * @param value The char value of the String.format(ted) message.
+     * @since 1.3.0
      */
-    public void trace(final String format, final Object ... values) {
-        trace(formattedMessage(format, values));
+    public void trace(final String format, final char value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
+        }
+    }
+
+    /**
+     * Accepts a String.format(ted) trace message with a boolean value.
+     * @param format The format for the message.
+     * @param value The boolean value of the String.format(ted) message.
+     * @since 1.3.0
+     */
+    public void trace(final String format, final boolean value) {
+        if (isEnabled(Level.TRACE, format)) {
+            emitFormatted(Level.TRACE, null, format, value);
+        }
     }
 
     /**
@@ -373,9 +2903,199 @@ public class LoggerPlus {
      * @param message The supplier of message.
      */
     public void trace(final Supplier<String> message) {
-        if (logger.isTraceEnabled()) {
-            Optional.ofNullable(message).ifPresent(___message -> logger.trace(___message.get()));
+        if (null!=message && isEnabled(Level.TRACE, message.getClass())) {
+            emitSupplied(Level.TRACE, null, message, null);
+        }
+    }
+
+    /**
+     * Accepts a trace message with a throwable passed to the logger as is.
+     * The message is a format whose placeholder, if any, renders the throwable instead.
+     * @param message The trace message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void trace(final String message, final Throwable throwable) {
+        if (isEnabled(Level.TRACE, message)) {
+            emitFormatted(Level.TRACE, null, message, throwable);
+        }
+    }
+
+    /**
+     * Accepts a supplier of a message with a throwable passed to the logger as is.
+     * @param message The supplier of message.
+     * @param throwable The throwable.
+     *
+     * @since 1.3.0
+     */
+    public void trace(final Supplier<String> message, final Throwable throwable) {
+        if (null!=message && isEnabled(Level.TRACE, message.getClass())) {
+            emitSupplied(Level.TRACE, null, message, throwable);
+        }
+    }
+
+    /**
+     * Return a LoggerPlus that logs at most a number of messages per time unit for each call site.
+     * The call site is the message, the format or the class of the supplier.
+     * The instance is reused for the same permits and time unit.
+     * @param permits The number of messages allowed per time unit.
+     * @param per The time unit.
+     * @return An instance of ThrottledLoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public ThrottledLoggerPlus limited(final int permits, final TimeUnit per) {
+        return limited(null, permits, per);
+    }
+
+    /**
+     * Return a LoggerPlus that logs at most a number of messages per time unit for a key.
+     * The instance is not reused, but the limit is kept for the same key, permits and time unit, hence a key
+     * <i>(e.g. a user id)</i> costs no memory of its own.
+     * @param key The key shared by all the messages logged through the instance.
+     * @param permits The number of messages allowed per time unit.
+     * @param per The time unit.
+     * @return An instance of ThrottledLoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public ThrottledLoggerPlus limited(final String key, final int permits, final TimeUnit per) {
+        if (null==per) {
+            throw new IllegalArgumentException("The time unit is required.");
+        }
+        if (null==key) {
+            return throttles.computeIfAbsent(new ThrottledLoggerPlus.Key(null, permits, per, 1.0),
+                    ___key -> new ThrottledLoggerPlus(this, ___key));
+        }
+        final var shared = keyedThrottles.computeIfAbsent(new ThrottledLoggerPlus.Key(null, permits, per, 1.0),
+                ___key -> new ThrottledLoggerPlus(this, ___key));
+        return new ThrottledLoggerPlus(this, key, shared);
+    }
+
+    /**
+     * Return a LoggerPlus that only logs a random fraction of the messages.
+     * The instance is reused for the same rate.
+     * @param rate The fraction of the messages to log, from 0.0 to 1.0.
+     * @return An instance of ThrottledLoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public ThrottledLoggerPlus sampled(final double rate) {
+        return throttles.computeIfAbsent(new ThrottledLoggerPlus.Key(null, 0, null, rate),
+                ___key -> new ThrottledLoggerPlus(this, ___key));
+    }
+
+    /**
+     * Return a new LoggerPlus that logs the first of the identical messages within a time window
+     * and a summary of how many times it was repeated. Keep the instance since it holds the tracked messages.
+     * @param window The time window of the identical messages.
+     * @param unit The time unit of the window.
+     * @return An instance of DeduplicatingLoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public DeduplicatingLoggerPlus deduplicated(final long window, final TimeUnit unit) {
+        return new DeduplicatingLoggerPlus(this, window, unit, DeduplicatingLoggerPlus.DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Return a new LoggerPlus whose getStackTraceAsString methods render the full stack trace only
+     * on the first occurrence of a throwable fingerprint and a single line referring to it afterwards.
+     * Keep the instance since it holds the fingerprints.
+     * @param maxEntries The maximum number of fingerprints remembered.
+     * @param ttl How long a fingerprint is remembered before its full stack trace is rendered again.
+     * @param unit The time unit of the ttl.
+     * @return An instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public LoggerPlus fingerprinted(final int maxEntries, final long ttl, final TimeUnit unit) {
+        return new FingerprintingLoggerPlus(this, new ThrowableFingerprints(maxEntries, ttl, unit));
+    }
+
+    /**
+     * Return a new LoggerPlus that writes the DEBUG and TRACE messages to a memory-mapped file instead of the logger.
+     * The INFO and more severe messages are still passed to the logger.
+     * @param sink The sink of the DEBUG and TRACE messages.
+     * @return An instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public LoggerPlus mapped(final MappedFileSink sink) {
+        return mapped(sink, Level.TRACE);
+    }
+
+    /**
+     * Return a new LoggerPlus that writes the messages less severe than INFO to a memory-mapped file instead of
+     * the logger. The INFO and more severe messages are still passed to the logger.
+     * @param sink The sink of the messages less severe than INFO.
+     * @param level The most verbose level written to the sink <i>(i.e. DEBUG or TRACE)</i>.
+     * @return An instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public LoggerPlus mapped(final MappedFileSink sink, final Level level) {
+        if (null==sink || null==level) {
+            throw new IllegalArgumentException("The sink and the level are required.");
+        }
+        return new MappedFileLoggerPlus(this, sink, level);
+    }
+
+    /**
+     * Return a new LoggerPlus that writes the enabled messages in a binary encoding instead of the logger. The
+     * formatted messages are only formatted when decoded with the BinaryLogDecoder.
+     * @param writer The writer of the messages.
+     * @return An instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public LoggerPlus binary(final BinaryLogWriter writer) {
+        if (null==writer) {
+            throw new IllegalArgumentException("The writer is required.");
+        }
+        return new BinaryLoggerPlus(this, writer);
+    }
+
+    /**
+     * Return a new LoggerPlus that keeps the recent DEBUG and TRACE messages disabled in the logger per thread and
+     * logs them with the next ERROR message of the same thread. Keep the instance since it holds the messages.
+     * @param capacity The number of messages kept per thread.
+     * @return An instance of FlightRecorderLoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public FlightRecorderLoggerPlus recorded(final int capacity) {
+        return recorded(capacity, Level.TRACE);
+    }
+
+    /**
+     * Return a new LoggerPlus that keeps the recent messages less severe than INFO disabled in the logger per thread
+     * and logs them with the next ERROR message of the same thread. Keep the instance since it holds the messages.
+     * @param capacity The number of messages kept per thread.
+     * @param level The most verbose level recorded <i>(i.e. DEBUG or TRACE)</i>.
+     * @return An instance of FlightRecorderLoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public FlightRecorderLoggerPlus recorded(final int capacity, final Level level) {
+        if (null==level) {
+            throw new IllegalArgumentException("The level is required.");
         }
+        return new FlightRecorderLoggerPlus(this, capacity, level);
+    }
+
+    /**
+     * Return a new LoggerPlus that limits the length of the messages and of each value of the formatted messages.
+     * A GroupLogger of the new LoggerPlus has the same limits.
+     * @param maxMessageLength The maximum number of characters of a message.
+     * @param maxValueLength The maximum number of characters of a value.
+     * @return An instance of LoggerPlus.
+     *
+     * @since 1.3.0
+     */
+    public LoggerPlus bounded(final int maxMessageLength, final int maxValueLength) {
+        return new BoundedLoggerPlus(this, maxMessageLength, maxValueLength);
     }
 
     /**
@@ -405,6 +3125,8 @@ public class LoggerPlus {
 
     /**
      * Return an instance of GroupLogger that can be used log messages by group.
+     * The instance is reused for the same group name and header setting, since it holds no state of its own
+     * between the opening and the closing. A group recorded by the Flight Recorder gets an instance of its own.
      * @param groupName The group name.
      * @param withHeader Place a log header message with each group.
      * @return An instance of GroupLogger.
@@ -412,7 +3134,26 @@ public class LoggerPlus {
      * @since 1.1.0
      */
     public GroupLogger groupLog(final String groupName, final boolean withHeader) {
-        return new GroupLogger(groupName, this, withHeader);
+        final var span = GroupSpanEvent.start(groupName, this);
+        if (null==groupName || null!=span) {
+            final var group = new GroupLogger(groupName, this, withHeader, false, 0);
+            group.begin(span);
+            return group;
+        }
+
+        final var groups = withHeader ? headerGroups : plainGroups;
+        var group = groups.get(groupName);
+        if (null==group) {
+            group = new GroupLogger(groupName, this, withHeader, false, 0);
+            if (groups.size() < GROUP_CACHE_LIMIT) {
+                final var pooled = groups.putIfAbsent(groupName, group);
+                if (null!=pooled) {
+                    group = pooled;
+                }
+            }
+        }
+        group.begin(null);
+        return group;
     }
 
     /**
@@ -426,6 +3167,187 @@ public class LoggerPlus {
         return groupLog(groupName, true);
     }
 
+    /**
+     * Return an instance of GroupLogger with modes that can be used log messages by group.
+     * @param groupName The group name.
+     * @param modes The modes of the GroupLogger.
+     * @return An instance of GroupLogger.
+     *
+     * @since 1.3.0
+     */
+    public GroupLogger groupLog(final String groupName, final GroupLogger.Mode ... modes) {
+        return groupLog(groupName, GroupLogger.DEFAULT_BUFFER_LIMIT, modes);
+    }
+
+    /**
+     * Return an instance of GroupLogger with modes that can be used log messages by group.
+     * @param groupName The group name.
+     * @param bufferLimit The number of characters a buffered GroupLogger holds before it flushes early.
+     *                    Must be positive.
+     * @param modes The modes of the GroupLogger.
+     * @return An instance of GroupLogger.
+     *
+     * @since 1.3.0
+     */
+    public GroupLogger groupLog(final String groupName, final int bufferLimit, final GroupLogger.Mode ... modes) {
+        GroupLogger.requirePositive(bufferLimit);
+        if (!GroupLogger.isStandard(modes)) {
+            return new GroupLogger(groupName, this, true, bufferLimit, modes);
+        }
+        return groupLog(groupName);
+    }
+
+    /**
+     * Starts counting the log calls and registers the counters as an MXBean named
+     * xyz.ronella.logging:type=LoggerPlus,name=&lt;logger name&gt;,id=&lt;instance id&gt;.
+     * The counters are shared with the LoggerPlus instances derived from this one.
+     * A registration failure is logged as a warning.
+     * @return The counters.
+     *
+     * @since 1.3.0
+     */
+    public LoggerMetrics enableMetrics() {
+        if (root != this) {
+            return root.enableMetrics();
+        }
+        synchronized (this) {
+            if (null==metrics) {
+                final var loggerMetrics = new LoggerMetrics(getName());
+                try {
+                    final var name = new ObjectName("xyz.ronella.logging:type=LoggerPlus,name="
+                            + ObjectName.quote(String.valueOf(getName()))
+                            + ",id=" + Integer.toHexString(System.identityHashCode(this)));
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(loggerMetrics, name);
+                    metricsName = name;
+                } catch (JMException exception) {
+                    logger().warn("Cannot register the metrics MXBean, the metrics are still counted.", exception);
+                }
+                metrics = loggerMetrics;
+            }
+            return metrics;
+        }
+    }
+
+    /**
+     * Stops counting the log calls and unregisters the MXBean.
+     *
+     * @since 1.3.0
+     */
+    public void disableMetrics() {
+        if (root != this) {
+            root.disableMetrics();
+            return;
+        }
+        synchronized (this) {
+            metrics = null;
+            if (null!=metricsName) {
+                try {
+                    ManagementFactory.getPlatformMBeanServer().unregisterMBean(metricsName);
+                } catch (JMException exception) {
+                    logger().warn("Cannot unregister the metrics MXBean.", exception);
+                }
+                metricsName = null;
+            }
+        }
+    }
+
+    /**
+     * The counters of the log calls.
+     * @return An instance of LoggerMetrics or null if the metrics are not enabled.
+     *
+     * @since 1.3.0
+     */
+    public LoggerMetrics getMetrics() {
+        return root.metrics;
+    }
+
+    /**
+     * Starts counting the messages per log statement with the default capacity.
+     * The profiler is shared with the LoggerPlus instances derived from this one.
+     * @return The profiler.
+     *
+     * @since 1.3.0
+     */
+    public CallSiteProfiler enableProfiler() {
+        return enableProfiler(CallSiteProfiler.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Starts counting the messages per log statement. Does nothing if the profiler is already enabled.
+     * The profiler is shared with the LoggerPlus instances derived from this one.
+     * @param capacity The number of statements tracked.
+     * @return The profiler.
+     *
+     * @since 1.3.0
+     */
+    public CallSiteProfiler enableProfiler(final int capacity) {
+        if (root != this) {
+            return root.enableProfiler(capacity);
+        }
+        synchronized (this) {
+            if (null==profiler) {
+                profiler = new CallSiteProfiler(capacity);
+            }
+            return profiler;
+        }
+    }
+
+    /**
+     * Stops counting the messages per log statement.
+     *
+     * @since 1.3.0
+     */
+    public void disableProfiler() {
+        root.profiler = null;
+    }
+
+    /**
+     * The counters of the log statements.
+     * @return An instance of CallSiteProfiler or null if the profiler is not enabled.
+     *
+     * @since 1.3.0
+     */
+    public CallSiteProfiler getProfiler() {
+        return root.profiler;
+    }
+
+    /**
+     * The latency histogram of the group name, recorded by the GroupLogger instances with the TIMED mode.
+     * @param groupName The group name.
+     * @return An instance of LatencyHistogram or null if no timed group with the name was closed.
+     *
+     * @since 1.3.0
+     */
+    public LatencyHistogram getGroupLatency(final String groupName) {
+        if (null!=parent) {
+            return parent.getGroupLatency(groupName);
+        }
+        return null==groupName ? null : latencies.get(groupName);
+    }
+
+    /**
+     * The latency histogram of the group name, created if absent.
+     * @param groupName The group name.
+     * @return An instance of LatencyHistogram. Not kept if the group name is null or too many are kept already.
+     * @since 1.3.0
+     */
+    LatencyHistogram latency(final String groupName) {
+        if (null!=parent) {
+            return parent.latency(groupName);
+        }
+        if (null==groupName) {
+            return new LatencyHistogram();
+        }
+        final var histogram = latencies.get(groupName);
+        if (null!=histogram) {
+            return histogram;
+        }
+        if (latencies.size() >= GROUP_CACHE_LIMIT) {
+            return new LatencyHistogram();
+        }
+        return latencies.computeIfAbsent(groupName, ___groupName -> new LatencyHistogram());
+    }
+
     /**
      * Capture the stacktrace as string from an exception.
      *
@@ -433,17 +3355,29 @@ public class LoggerPlus {
      * @return The string equivalent of stacktrace.
      */
     public String getStackTraceAsString(final Exception exception) {
-        if (null!=exception) {
-            try (var sWriter = new StringWriter();
-                 var pWriter = new PrintWriter(sWriter)) {
+        return getStackTraceAsString((Throwable) exception);
+    }
 
-                exception.printStackTrace(pWriter);
-                return sWriter.toString();
-            } catch (IOException ioe) {
-                ioe.printStackTrace();
-            }
-        }
+    /**
+     * Capture the stacktrace as string from a throwable.
+     *
+     * @param throwable An instance of throwable.
+     * @return The string equivalent of stacktrace.
+     * @since 1.3.0
+     */
+    public String getStackTraceAsString(final Throwable throwable) {
+        return getStackTraceAsString(throwable, StackTraceRenderer.DEFAULT);
+    }
 
-        return null;
+    /**
+     * Capture the stacktrace as string from a throwable using a renderer.
+     *
+     * @param throwable An instance of throwable.
+     * @param renderer The renderer of the stacktrace (e.g. with a maximum depth or collapsed packages).
+     * @return The string equivalent of stacktrace.
+     * @since 1.3.0
+     */
+    public String getStackTraceAsString(final Throwable throwable, final StackTraceRenderer renderer) {
+        return renderer.render(throwable);
     }
 }
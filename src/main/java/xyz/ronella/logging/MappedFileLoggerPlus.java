@@ -0,0 +1,87 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+import java.util.List;
+
+/**
+ * A LoggerPlus that writes the messages less severe than INFO to a MappedFileSink instead of the logger.
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+class MappedFileLoggerPlus extends LoggerPlus {
+
+    final private MappedFileSink sink;
+
+    final private int threshold;
+
+    /**
+     * Creates an instance of MappedFileLoggerPlus.
+     * @param parent The LoggerPlus to pass the INFO and more severe messages to.
+     * @param sink The sink of the messages less severe than INFO.
+     * @param level The most verbose level written to the sink. The less severe levels are disabled.
+     */
+    MappedFileLoggerPlus(final LoggerPlus parent, final MappedFileSink sink, final Level level) {
+        super(parent);
+        this.sink = sink;
+        this.threshold = level.toInt();
+    }
+
+    private static boolean isRouted(final Level level) {
+        return level.toInt() < Level.INFO.toInt();
+    }
+
+    @Override
+    boolean isLevelEnabled(final Level level, final boolean withLoggerOverride) {
+        if (isRouted(level)) {
+            return level.toInt() >= threshold;
+        }
+        return super.isLevelEnabled(level, withLoggerOverride);
+    }
+
+    @Override
+    void emit(final Level level, final String message) {
+        if (isRouted(level)) {
+            sink.append(level, message);
+            return;
+        }
+        super.emit(level, message);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues) {
+        if (isRouted(level)) {
+            sink.append(level, line(message, keyValues, null));
+            return;
+        }
+        super.emit(level, message, keyValues);
+    }
+
+    @Override
+    void emit(final Level level, final String message, final List<KeyValuePair> keyValues,
+              final Throwable throwable) {
+        if (isRouted(level)) {
+            sink.append(level, line(message, keyValues, throwable));
+            return;
+        }
+        super.emit(level, message, keyValues, throwable);
+    }
+
+    private String line(final String message, final List<KeyValuePair> keyValues, final Throwable throwable) {
+        if ((null==keyValues || keyValues.isEmpty()) && null==throwable) {
+            return message;
+        }
+        final var line = new StringBuilder(String.valueOf(message));
+        if (null!=keyValues) {
+            for (final var keyValue : keyValues) {
+                line.append(' ').append(keyValue.key).append('=').append(keyValue.value);
+            }
+        }
+        if (null!=throwable) {
+            line.append(System.lineSeparator()).append(getStackTraceAsString(throwable));
+        }
+        return line.toString();
+    }
+}
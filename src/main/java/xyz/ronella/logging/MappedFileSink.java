@@ -0,0 +1,323 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes the log events as lines into pre-sized memory-mapped file segments.
+ *
+ * <p>Each event reserves its bytes in the current segment with a lock-free cursor and copies them into the mapped
+ * memory, hence there is no system call per event. The event that does not fit rolls over to the next segment
+ * <i>(e.g. trace-000002.log)</i>. A daemon thread forces the written pages to disk periodically. The unused end of a
+ * segment is filled with zeros. The numbering continues after the highest segment already in the directory and an
+ * existing file is never overwritten, hence the segments of the previous runs are kept.</p>
+ *
+ * <p>A retired segment is forced and closed only once its last writer is done. When the next segment cannot be
+ * opened, the events are discarded and the opening is retried after the force interval. The failures are logged
+ * and counted by {@link LoggerPlus#getInternalErrorCount()}.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class MappedFileSink implements AutoCloseable {
+
+    /**
+     * The default size of a segment in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default time between the forcing of the written pages to disk in milliseconds.
+     */
+    public static final long DEFAULT_FORCE_INTERVAL_MILLIS = 1000;
+
+    private static final class Segment {
+        private final int number;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger writers = new AtomicInteger();
+
+        private Segment(final int number, final FileChannel channel, final MappedByteBuffer buffer) {
+            this.number = number;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    final private Path directory;
+
+    final private String baseName;
+
+    final private int segmentSize;
+
+    final private long forceInterval;
+
+    final private AtomicReference<Segment> current = new AtomicReference<>();
+
+    final private ConcurrentLinkedQueue<Segment> retired = new ConcurrentLinkedQueue<>();
+
+    final private LongAdder dropped = new LongAdder();
+
+    final private Thread forcer;
+
+    private volatile boolean closed;
+
+    private int nextNumber;
+
+    private long retryAt;
+
+    /**
+     * Creates an instance of MappedFileSink with the default segment size and force interval.
+     * @param directory The directory of the segments.
+     * @param baseName The file name of the segments before the segment number.
+     * @throws IOException When the first segment cannot be created.
+     */
+    public MappedFileSink(final Path directory, final String baseName) throws IOException {
+        this(directory, baseName, DEFAULT_SEGMENT_SIZE, DEFAULT_FORCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates an instance of MappedFileSink.
+     * @param directory The directory of the segments.
+     * @param baseName The file name of the segments before the segment number.
+     * @param segmentSize The size of a segment in bytes.
+     * @param forceInterval The time between the forcing of the written pages to disk.
+     * @param unit The time unit of the force interval.
+     * @throws IOException When the first segment cannot be created.
+     */
+    public MappedFileSink(final Path directory, final String baseName, final int segmentSize,
+                          final long forceInterval, final TimeUnit unit) throws IOException {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("The segment size must be positive.");
+        }
+        this.directory = directory;
+        this.baseName = baseName;
+        this.segmentSize = segmentSize;
+        this.forceInterval = Math.max(1, unit.toNanos(forceInterval));
+        this.current.set(open(lastSegmentNumber() + 1));
+        this.forcer = new Thread(this::forceLoop, "logger-plus-mapped-" + baseName);
+        this.forcer.setDaemon(true);
+        this.forcer.start();
+    }
+
+    private int lastSegmentNumber() throws IOException {
+        final var prefix = baseName + "-";
+        var last = 0;
+        try (var files = Files.newDirectoryStream(directory, prefix + "*.log")) {
+            for (final var file : files) {
+                final var fileName = file.getFileName().toString();
+                final var number = fileName.substring(prefix.length(), fileName.length() - ".log".length());
+                if (!number.isEmpty() && number.chars().allMatch(Character::isDigit) && number.length() < 10) {
+                    last = Math.max(last, Integer.parseInt(number));
+                }
+            }
+        }
+        return last;
+    }
+
+    private Segment open(final int first) throws IOException {
+        var number = first;
+        while (true) {
+            final var file = directory.resolve(String.format("%s-%06d.log", baseName, number));
+            final FileChannel channel;
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+            } catch (FileAlreadyExistsException exception) {
+                number++;
+                continue;
+            }
+            try {
+                return new Segment(number, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+            } catch (IOException exception) {
+                channel.close();
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Writes a log event as a line with the time in epoch milliseconds, the level and the thread name.
+     * @param level The level of the event.
+     * @param message The message of the event.
+     * @return false if the sink is closed or failed.
+     */
+    public boolean append(final Level level, final String message) {
+        final var line = System.currentTimeMillis() + " " + level + " [" + Thread.currentThread().getName() + "] "
+                + message + "\n";
+        return append(line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the bytes of an encoded event.
+     * @param event The encoded event.
+     * @return false if the sink is closed or failed or the event is larger than a segment.
+     */
+    public boolean append(final byte[] event) {
+        return append(event, event.length);
+    }
+
+    /**
+     * Writes the first bytes of an encoded event.
+     * @param event The encoded event.
+     * @param eventLength The number of bytes of the event.
+     * @return false if the sink is closed or failed or the event is larger than a segment.
+     */
+    public boolean append(final byte[] event, final int eventLength) {
+        if (eventLength > segmentSize) {
+            dropped.increment();
+            return false;
+        }
+        while (!closed) {
+            final var segment = current.get();
+            if (null==segment) {
+                if (reopen()) {
+                    continue;
+                }
+                break;
+            }
+            final long position;
+            segment.writers.incrementAndGet();
+            try {
+                if (closed) {
+                    break;
+                }
+                position = segment.cursor.getAndAdd(eventLength);
+                if (position + eventLength <= segmentSize) {
+                    segment.buffer.put((int) position, event, 0, eventLength);
+                    return true;
+                }
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+            if (position <= segmentSize) {
+                roll(segment);
+            }
+            else {
+                while (current.get() == segment && !closed) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private synchronized void roll(final Segment segment) {
+        current.set(null);
+        retired.add(segment);
+        LockSupport.unpark(forcer);
+        nextNumber = segment.number + 1;
+        retryAt = System.nanoTime();
+        reopen();
+    }
+
+    private synchronized boolean reopen() {
+        if (null!=current.get()) {
+            return true;
+        }
+        if (closed || System.nanoTime() - retryAt < 0) {
+            return false;
+        }
+        try {
+            current.set(open(nextNumber));
+            return true;
+        } catch (IOException exception) {
+            retryAt = System.nanoTime() + forceInterval;
+            InternalErrors.report("Cannot open the next segment of " + baseName
+                    + ", the events are discarded until it opens.", exception);
+            return false;
+        }
+    }
+
+    private void forceLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(this, forceInterval);
+            force(false);
+        }
+    }
+
+    private void force(final boolean closing) {
+        final var segment = current.get();
+        if (null!=segment) {
+            try {
+                segment.buffer.force();
+            } catch (RuntimeException exception) {
+                InternalErrors.report("Cannot force the segment " + segment.number + " of " + baseName
+                        + " to disk.", exception);
+            }
+        }
+        for (final var done : retired) {
+            while (closing && done.writers.get() > 0) {
+                Thread.onSpinWait();
+            }
+            if (done.writers.get() == 0 && retired.remove(done)) {
+                release(done);
+            }
+        }
+    }
+
+    private void release(final Segment segment) {
+        try {
+            segment.buffer.force();
+        } catch (RuntimeException exception) {
+            InternalErrors.report("Cannot force the segment " + segment.number + " of " + baseName
+                    + " to disk.", exception);
+        } finally {
+            try {
+                segment.channel.close();
+            } catch (IOException exception) {
+                InternalErrors.report("Cannot close the segment " + segment.number + " of " + baseName + ".",
+                        exception);
+            }
+        }
+    }
+
+    /**
+     * The number of events discarded because the sink was closed or failed or the event was larger than a segment.
+     * @return The discarded event count.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Forces the written pages to disk and closes the segments. Events appended afterwards are discarded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(forcer);
+        try {
+            forcer.join();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            final var segment = current.getAndSet(null);
+            if (null!=segment) {
+                retired.add(segment);
+            }
+        }
+        force(true);
+    }
+}
@@ -0,0 +1,506 @@
+package xyz.ronella.logging;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled message format that renders without java.util.Formatter.
+ *
+ * <p>The String.format subset <b>%s</b>, <b>%d</b>, <b>%x</b>, <b>%f</b>, <b>%.Nf</b>, <b>%n</b> and <b>%%</b> is
+ * supported. A format without any <b>%</b> uses the SLF4J style <b>{}</b> placeholders instead. Anything else is
+ * rendered by String.format.</p>
+ *
+ * <p>The compiled templates are cached up to a limit. A format without any placeholder is not cached. When the cache
+ * is full, a clock hand sweeps the cached templates and evicts the first one not used since it last passed, hence
+ * the templates in use stay.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+final class MessageTemplate {
+
+    /**
+     * The maximum number of compiled templates kept in the cache.
+     */
+    static final int CACHE_LIMIT = 1024;
+
+    private static final int BUFFER_CAPACITY = 256;
+
+    private static final int BUFFER_LIMIT = 16 * 1024;
+
+    private static final byte STRING = 0;
+
+    private static final byte DECIMAL = 1;
+
+    private static final byte HEX = 2;
+
+    private static final byte FIXED = 3;
+
+    private static final byte ANCHOR = 4;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final ConcurrentHashMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private static volatile LocaleCheck localeCheck = new LocaleCheck(null, false);
+
+    private static Iterator<MessageTemplate> hand;
+
+    private final String format;
+
+    private final boolean fallback;
+
+    private final String[] literals;
+
+    private final byte[] conversions;
+
+    private final int[] precisions;
+
+    private volatile boolean referenced;
+
+    private MessageTemplate(final String format, final boolean fallback, final String[] literals,
+                            final byte[] conversions, final int[] precisions) {
+        this.format = format;
+        this.fallback = fallback;
+        this.literals = literals;
+        this.conversions = conversions;
+        this.precisions = precisions;
+    }
+
+    private static final class Buffer {
+        private StringBuilder builder = new StringBuilder(BUFFER_CAPACITY);
+        private boolean busy;
+    }
+
+    private static final class LocaleCheck {
+        private final Locale locale;
+        private final boolean ascii;
+
+        private LocaleCheck(final Locale locale, final boolean ascii) {
+            this.locale = locale;
+            this.ascii = ascii;
+        }
+    }
+
+    /**
+     * Renders the format with the values.
+     *
+     * @param format The format of the message.
+     * @param values The values of the message.
+     * @return The rendered message.
+     */
+    static String format(final String format, final Object ... values) {
+        return formatPrefixed(null, format, values);
+    }
+
+    /**
+     * Renders the format with the values after a prefix.
+     *
+     * @param prefix The text to place before the rendered message. Can be null.
+     * @param format The format of the message.
+     * @param values The values of the message.
+     * @return The rendered message.
+     */
+    static String formatPrefixed(final String prefix, final String format, final Object ... values) {
+        if (null==format) {
+            return withPrefix(prefix, String.format(format, values));
+        }
+
+        final var template = compile(format);
+        if (null==template) {
+            return withPrefix(prefix, format);
+        }
+        if (template.fallback) {
+            return withPrefix(prefix, String.format(format, values));
+        }
+
+        final var buffer = BUFFER.get();
+        if (buffer.busy) {
+            return template.render(new StringBuilder(BUFFER_CAPACITY), prefix, values);
+        }
+
+        buffer.busy = true;
+        try {
+            final var builder = buffer.builder;
+            builder.setLength(0);
+            final var message = template.render(builder, prefix, values);
+            if (builder.capacity() > BUFFER_LIMIT) {
+                buffer.builder = new StringBuilder(BUFFER_CAPACITY);
+            }
+            return message;
+        }
+        finally {
+            buffer.busy = false;
+        }
+    }
+
+    /**
+     * Returns the compiled template of the format, compiling and caching it when necessary. A format without any
+     * placeholder is neither compiled nor cached.
+     *
+     * @param format The format of the message.
+     * @return An instance of MessageTemplate or null if the format has no placeholder.
+     */
+    static MessageTemplate compile(final String format) {
+        var template = CACHE.get(format);
+        if (null!=template) {
+            if (!template.referenced) {
+                template.referenced = true;
+            }
+        }
+        else if (isLiteral(format)) {
+            return null;
+        }
+        else {
+            template = parse(format);
+            if (CACHE.size() >= CACHE_LIMIT) {
+                evict();
+            }
+            final var cached = CACHE.putIfAbsent(format, template);
+            if (null!=cached) {
+                template = cached;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * The number of cached templates.
+     *
+     * @return The cache size.
+     */
+    static int cacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * The number of values consumed by the template.
+     *
+     * @return The placeholder count or -1 if the template is handled by String.format.
+     */
+    int placeholders() {
+        return fallback ? -1 : conversions.length;
+    }
+
+    /**
+     * Returns the last value if it is a throwable not consumed by the format, as SLF4J does.
+     *
+     * @param format The format of the message.
+     * @param values The values of the message.
+     * @return The trailing throwable or null if there is none.
+     */
+    static Throwable trailingThrowable(final String format, final Object ... values) {
+        if (null==values || values.length == 0 || !(values[values.length - 1] instanceof Throwable throwable)
+                || null==format) {
+            return null;
+        }
+        final var template = compile(format);
+        final var placeholders = null==template ? 0 : template.placeholders();
+        return placeholders >= 0 && placeholders < values.length ? throwable : null;
+    }
+
+    private static boolean isLiteral(final String format) {
+        return format.indexOf('%') < 0 && !format.contains("{}");
+    }
+
+    /**
+     * Evicts the first template the clock hand finds unused since it last passed, giving the used ones a second
+     * chance.
+     */
+    private static synchronized void evict() {
+        for (var step = 0; step <= 2 * CACHE_LIMIT; step++) {
+            if (null==hand || !hand.hasNext()) {
+                hand = CACHE.values().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            final var template = hand.next();
+            if (template.referenced) {
+                template.referenced = false;
+            }
+            else {
+                hand.remove();
+                return;
+            }
+        }
+    }
+
+    private static String withPrefix(final String prefix, final String message) {
+        return null==prefix ? message : prefix.concat(message);
+    }
+
+    private static MessageTemplate fallback(final String format) {
+        return new MessageTemplate(format, true, null, null, null);
+    }
+
+    private static MessageTemplate parse(final String format) {
+        return format.indexOf('%') < 0 ? parseAnchors(format) : parsePercents(format);
+    }
+
+    private static MessageTemplate parsePercents(final String format) {
+        final var literals = new ArrayList<String>();
+        final var conversions = new ArrayList<Byte>();
+        final var precisions = new ArrayList<Integer>();
+        final var literal = new StringBuilder();
+        final var length = format.length();
+
+        var index = 0;
+        while (index < length) {
+            final var ch = format.charAt(index++);
+            if (ch != '%') {
+                literal.append(ch);
+                continue;
+            }
+            if (index >= length) {
+                return fallback(format);
+            }
+
+            var precision = -1;
+            var conversion = format.charAt(index++);
+            if (conversion == '.') {
+                final var start = index;
+                while (index < length && Character.isDigit(format.charAt(index))) {
+                    index++;
+                }
+                if (index == start || index >= length || index - start > 2) {
+                    return fallback(format);
+                }
+                precision = Integer.parseInt(format, start, index, 10);
+                conversion = format.charAt(index++);
+                if (conversion != 'f') {
+                    return fallback(format);
+                }
+            }
+
+            switch (conversion) {
+                case '%' -> literal.append('%');
+                case 'n' -> literal.append(LINE_SEPARATOR);
+                case 's', 'd', 'x', 'f' -> {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    conversions.add(switch (conversion) {
+                        case 's' -> STRING;
+                        case 'd' -> DECIMAL;
+                        case 'x' -> HEX;
+                        default -> FIXED;
+                    });
+                    precisions.add(conversion == 'f' && precision < 0 ? 6 : precision);
+                }
+                default -> {
+                    return fallback(format);
+                }
+            }
+        }
+        literals.add(literal.toString());
+
+        return compiled(format, literals, conversions, precisions);
+    }
+
+    private static MessageTemplate parseAnchors(final String format) {
+        final var literals = new ArrayList<String>();
+        final var conversions = new ArrayList<Byte>();
+        final var precisions = new ArrayList<Integer>();
+        final var literal = new StringBuilder();
+        final var length = format.length();
+
+        var index = 0;
+        while (index < length) {
+            final var ch = format.charAt(index);
+            final var isAnchor = ch == '{' && index + 1 < length && format.charAt(index + 1) == '}';
+            if (isAnchor && index > 0 && format.charAt(index - 1) == '\\'
+                    && (index < 2 || format.charAt(index - 2) != '\\')) {
+                literal.setLength(literal.length() - 1);
+                literal.append("{}");
+            }
+            else if (isAnchor) {
+                if (index > 1 && format.charAt(index - 1) == '\\' && format.charAt(index - 2) == '\\') {
+                    literal.setLength(literal.length() - 1);
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                conversions.add(ANCHOR);
+                precisions.add(-1);
+            }
+            else {
+                literal.append(ch);
+                index++;
+                continue;
+            }
+            index += 2;
+        }
+        literals.add(literal.toString());
+
+        return compiled(format, literals, conversions, precisions);
+    }
+
+    private static MessageTemplate compiled(final String format, final ArrayList<String> literals,
+                                            final ArrayList<Byte> conversions, final ArrayList<Integer> precisions) {
+        final var size = conversions.size();
+        final var conversionArray = new byte[size];
+        final var precisionArray = new int[size];
+        for (var index = 0; index < size; index++) {
+            conversionArray[index] = conversions.get(index);
+            precisionArray[index] = precisions.get(index);
+        }
+        return new MessageTemplate(format, false, literals.toArray(new String[0]), conversionArray, precisionArray);
+    }
+
+    private String render(final StringBuilder builder, final String prefix, final Object[] values) {
+        final var count = null==values ? 0 : values.length;
+        final var size = conversions.length;
+
+        if (size > 0 && conversions[0] != ANCHOR && count < size) {
+            return withPrefix(prefix, String.format(format, values));
+        }
+
+        if (null!=prefix) {
+            builder.append(prefix);
+        }
+        builder.append(literals[0]);
+        for (var index = 0; index < size; index++) {
+            if (conversions[index] == ANCHOR) {
+                if (index < count) {
+                    appendAnchor(builder, values[index]);
+                }
+                else {
+                    builder.append("{}");
+                }
+            }
+            else if (!append(builder, conversions[index], precisions[index], values[index])) {
+                return withPrefix(prefix, String.format(format, values));
+            }
+            builder.append(literals[index + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static boolean append(final StringBuilder builder, final byte conversion, final int precision,
+                                  final Object value) {
+        if (null==value) {
+            builder.append("null");
+            return true;
+        }
+
+        return switch (conversion) {
+            case STRING -> appendString(builder, value);
+            case DECIMAL -> appendDecimal(builder, value);
+            case HEX -> appendHex(builder, value);
+            default -> appendFixed(builder, precision, value);
+        };
+    }
+
+    private static boolean appendString(final StringBuilder builder, final Object value) {
+        if (value instanceof Formattable) {
+            return false;
+        }
+        builder.append(value);
+        return true;
+    }
+
+    private static boolean appendDecimal(final StringBuilder builder, final Object value) {
+        if (!isAsciiLocale()) {
+            return false;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            builder.append(((Number) value).longValue());
+            return true;
+        }
+        if (value instanceof BigInteger) {
+            builder.append(value);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean appendHex(final StringBuilder builder, final Object value) {
+        if (value instanceof Integer) {
+            builder.append(Integer.toHexString((Integer) value));
+        }
+        else if (value instanceof Long) {
+            builder.append(Long.toHexString((Long) value));
+        }
+        else if (value instanceof Short) {
+            builder.append(Integer.toHexString((Short) value & 0xFFFF));
+        }
+        else if (value instanceof Byte) {
+            builder.append(Integer.toHexString((Byte) value & 0xFF));
+        }
+        else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean appendFixed(final StringBuilder builder, final int precision, final Object value) {
+        if (!(value instanceof Double || value instanceof Float) || !isAsciiLocale()) {
+            return false;
+        }
+
+        final var number = ((Number) value).doubleValue();
+        if (!Double.isFinite(number) || Double.doubleToRawLongBits(number) == Long.MIN_VALUE) {
+            return false;
+        }
+
+        final var fixed = BigDecimal.valueOf(number).setScale(precision, RoundingMode.HALF_UP).toPlainString();
+        if (number < 0 && fixed.charAt(0) != '-') {
+            builder.append('-');
+        }
+        builder.append(fixed);
+        return true;
+    }
+
+    private static void appendAnchor(final StringBuilder builder, final Object value) {
+        if (value instanceof Object[]) {
+            builder.append(Arrays.deepToString((Object[]) value));
+        }
+        else if (value instanceof int[]) {
+            builder.append(Arrays.toString((int[]) value));
+        }
+        else if (value instanceof long[]) {
+            builder.append(Arrays.toString((long[]) value));
+        }
+        else if (value instanceof double[]) {
+            builder.append(Arrays.toString((double[]) value));
+        }
+        else if (value instanceof byte[]) {
+            builder.append(Arrays.toString((byte[]) value));
+        }
+        else if (value instanceof char[]) {
+            builder.append(Arrays.toString((char[]) value));
+        }
+        else if (value instanceof boolean[]) {
+            builder.append(Arrays.toString((boolean[]) value));
+        }
+        else if (value instanceof float[]) {
+            builder.append(Arrays.toString((float[]) value));
+        }
+        else if (value instanceof short[]) {
+            builder.append(Arrays.toString((short[]) value));
+        }
+        else {
+            builder.append(value);
+        }
+    }
+
+    private static boolean isAsciiLocale() {
+        final var locale = Locale.getDefault(Locale.Category.FORMAT);
+        var check = localeCheck;
+        if (check.locale != locale) {
+            final var symbols = DecimalFormatSymbols.getInstance(locale);
+            check = new LocaleCheck(locale, symbols.getZeroDigit() == '0' && symbols.getDecimalSeparator() == '.');
+            localeCheck = check;
+        }
+        return check.ascii;
+    }
+}
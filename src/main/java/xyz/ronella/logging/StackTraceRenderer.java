@@ -0,0 +1,173 @@
+package xyz.ronella.logging;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Renders the stack trace of a throwable in the format of Throwable.printStackTrace.
+ *
+ * <p>The frames shared with the enclosing trace are folded, the circular causes are marked and the rendering
+ * happens in a reusable builder. Optionally, the number of frames per trace can be limited and the consecutive
+ * frames from some packages (e.g. reflection or proxies) can be collapsed into a single line.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class StackTraceRenderer {
+
+    /**
+     * Renders all the frames, the same as Throwable.printStackTrace.
+     */
+    public static final StackTraceRenderer DEFAULT = new StackTraceRenderer();
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final String CAUSE_CAPTION = "Caused by: ";
+
+    private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+
+    private static final int BUFFER_CAPACITY = 4096;
+
+    private static final int BUFFER_LIMIT = 256 * 1024;
+
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    final private int maxDepth;
+
+    final private String[] collapsedPackages;
+
+    private static final class State {
+        private StringBuilder builder = new StringBuilder(BUFFER_CAPACITY);
+        private final Set<Throwable> rendered = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean busy;
+    }
+
+    /**
+     * Creates an instance of StackTraceRenderer that renders all the frames.
+     */
+    public StackTraceRenderer() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an instance of StackTraceRenderer.
+     * @param maxDepth The maximum number of frames rendered per trace.
+     * @param collapsedPackages The package prefixes whose consecutive frames are collapsed into a single line.
+     */
+    public StackTraceRenderer(final int maxDepth, final String ... collapsedPackages) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("The maximum depth must be positive.");
+        }
+        this.maxDepth = maxDepth;
+        this.collapsedPackages = null==collapsedPackages ? new String[0] : collapsedPackages.clone();
+    }
+
+    /**
+     * Renders the stack trace of the throwable.
+     * @param throwable An instance of throwable.
+     * @return The stack trace or null if the throwable is null.
+     */
+    public String render(final Throwable throwable) {
+        if (null==throwable) {
+            return null;
+        }
+
+        final var state = STATE.get();
+        if (state.busy) {
+            final var nested = new State();
+            nested.busy = true;
+            return render(nested, throwable);
+        }
+
+        state.busy = true;
+        try {
+            return render(state, throwable);
+        }
+        finally {
+            state.rendered.clear();
+            if (state.builder.capacity() > BUFFER_LIMIT) {
+                state.builder = new StringBuilder(BUFFER_CAPACITY);
+            }
+            state.busy = false;
+        }
+    }
+
+    private String render(final State state, final Throwable throwable) {
+        final var builder = state.builder;
+        builder.setLength(0);
+        renderTrace(state, throwable, NO_FRAMES, "", "");
+        return builder.toString();
+    }
+
+    private void renderTrace(final State state, final Throwable throwable, final StackTraceElement[] enclosingTrace,
+                             final String caption, final String prefix) {
+        final var builder = state.builder;
+        if (!state.rendered.add(throwable)) {
+            builder.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append(']')
+                    .append(LINE_SEPARATOR);
+            return;
+        }
+
+        final var trace = throwable.getStackTrace();
+        var last = trace.length - 1;
+        var enclosing = enclosingTrace.length - 1;
+        while (last >= 0 && enclosing >= 0 && trace[last].equals(enclosingTrace[enclosing])) {
+            last--;
+            enclosing--;
+        }
+
+        builder.append(prefix).append(caption).append(throwable).append(LINE_SEPARATOR);
+
+        var index = 0;
+        var depth = 0;
+        while (index <= last && depth < maxDepth) {
+            final var frame = trace[index];
+            if (isCollapsed(frame)) {
+                var end = index + 1;
+                while (end <= last && isCollapsed(trace[end])) {
+                    end++;
+                }
+                final var collapsed = end - index;
+                if (collapsed > 1) {
+                    builder.append(prefix).append("\t... ").append(collapsed).append(" collapsed frames")
+                            .append(LINE_SEPARATOR);
+                    index = end;
+                    depth++;
+                    continue;
+                }
+            }
+            builder.append(prefix).append("\tat ").append(frame).append(LINE_SEPARATOR);
+            index++;
+            depth++;
+        }
+
+        final var remaining = trace.length - index;
+        if (remaining > 0) {
+            builder.append(prefix).append("\t... ").append(remaining).append(" more").append(LINE_SEPARATOR);
+        }
+
+        for (final var suppressed : throwable.getSuppressed()) {
+            renderTrace(state, suppressed, trace, SUPPRESSED_CAPTION, prefix + "\t");
+        }
+
+        final var cause = throwable.getCause();
+        if (null!=cause) {
+            renderTrace(state, cause, trace, CAUSE_CAPTION, prefix);
+        }
+    }
+
+    private boolean isCollapsed(final StackTraceElement frame) {
+        if (collapsedPackages.length > 0) {
+            final var className = frame.getClassName();
+            for (final var collapsedPackage : collapsedPackages) {
+                if (className.startsWith(collapsedPackage)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package xyz.ronella.logging;
+
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A LoggerPlus that suppresses messages by rate limit or by sampling before any message is built.
+ *
+ * <p>The rate limit is kept per call site in striped lock-free buckets, hence call sites sharing a stripe share
+ * their permits. The limits by key of the same permits and time unit share one set of buckets, hence a key costs
+ * no memory of its own and keys sharing a stripe share their permits. The number of suppressed messages is logged
+ * as a warning at most every ten seconds, from a background thread if no message follows.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class ThrottledLoggerPlus extends LoggerPlus {
+
+    /**
+     * The number of rate limit buckets.
+     */
+    static final int STRIPES = 256;
+
+    /**
+     * The minimum time between the reports of suppressed messages.
+     */
+    static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * The settings of a ThrottledLoggerPlus.
+     *
+     * @param key The key shared by all the messages. Null to use the call site.
+     * @param permits The number of messages allowed per time unit.
+     * @param per The time unit. Null for sampling.
+     * @param rate The fraction of the messages to log when sampling.
+     */
+    record Key(String key, int permits, TimeUnit per, double rate) {}
+
+    final private Key settings;
+
+    final private ThrottledLoggerPlus shared;
+
+    final private long reportInterval;
+
+    final private long origin = System.nanoTime();
+
+    final private long period;
+
+    final private long interval;
+
+    final private AtomicLongArray stripes;
+
+    final private LongAdder suppressed = new LongAdder();
+
+    final private AtomicLong pending = new AtomicLong();
+
+    final private AtomicLong lastReport = new AtomicLong(origin);
+
+    /**
+     * Creates an instance of ThrottledLoggerPlus.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param settings The settings of the instance.
+     */
+    ThrottledLoggerPlus(final LoggerPlus parent, final Key settings) {
+        this(parent, settings, REPORT_INTERVAL_NANOS);
+    }
+
+    /**
+     * Creates an instance of ThrottledLoggerPlus.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param settings The settings of the instance.
+     * @param reportInterval The minimum time between the reports of suppressed messages in nanoseconds.
+     */
+    ThrottledLoggerPlus(final LoggerPlus parent, final Key settings, final long reportInterval) {
+        super(parent);
+        this.settings = settings;
+        this.shared = this;
+        this.reportInterval = reportInterval;
+        if (null==settings.per()) {
+            if (!(settings.rate() >= 0.0 && settings.rate() <= 1.0)) {
+                throw new IllegalArgumentException("The rate must be from 0.0 to 1.0.");
+            }
+            this.period = 0;
+            this.interval = 0;
+            this.stripes = null;
+        }
+        else {
+            if (settings.permits() < 1) {
+                throw new IllegalArgumentException("The permits must be positive.");
+            }
+            this.period = settings.per().toNanos(1);
+            this.interval = Math.max(1, period / settings.permits());
+            this.stripes = new AtomicLongArray(STRIPES);
+        }
+    }
+
+    /**
+     * Creates an instance of ThrottledLoggerPlus for a key that uses the buckets and the counters of another.
+     * @param parent The LoggerPlus to pass the messages to.
+     * @param key The key shared by all the messages.
+     * @param shared The instance of the same permits and time unit whose buckets and counters are used.
+     */
+    ThrottledLoggerPlus(final LoggerPlus parent, final String key, final ThrottledLoggerPlus shared) {
+        super(parent);
+        this.settings = new Key(key, shared.settings.permits(), shared.settings.per(), shared.settings.rate());
+        this.shared = shared;
+        this.reportInterval = shared.reportInterval;
+        this.period = shared.period;
+        this.interval = shared.interval;
+        this.stripes = null;
+    }
+
+    @Override
+    boolean admit(final Level level, final Object site) {
+        if (!super.admit(level, site)) {
+            return false;
+        }
+        if (permit(site)) {
+            shared.report();
+            return true;
+        }
+        shared.suppressed.increment();
+        if (shared.pending.incrementAndGet() == 1) {
+            shared.scheduleReport();
+        }
+        return false;
+    }
+
+    private boolean permit(final Object site) {
+        final var buckets = shared.stripes;
+        if (null==buckets) {
+            return ThreadLocalRandom.current().nextDouble() < settings.rate();
+        }
+
+        final var key = null!=settings.key() ? settings.key() : site;
+        final var hash = null==key ? 0 : key.hashCode();
+        final var index = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+        final var now = System.nanoTime() - shared.origin;
+        while (true) {
+            final var theoreticalArrival = buckets.get(index);
+            final var next = Math.max(theoreticalArrival, now) + interval;
+            if (next - now > period) {
+                return false;
+            }
+            if (buckets.compareAndSet(index, theoreticalArrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reports the suppressed messages once the report interval has passed, even if no message follows.
+     */
+    private void scheduleReport() {
+        final var delay = Math.max(0, lastReport.get() + reportInterval - System.nanoTime());
+        Housekeeper.schedule(this::report, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void report() {
+        if (pending.get() == 0) {
+            return;
+        }
+        final var now = System.nanoTime();
+        final var last = lastReport.get();
+        if (now - last >= reportInterval && lastReport.compareAndSet(last, now)) {
+            final var count = pending.getAndSet(0);
+            if (count > 0 && isLevelEnabled(Level.WARN)) {
+                unattributed(() -> emit(Level.WARN, "Suppressed " + count + " log messages."));
+            }
+        }
+    }
+
+    /**
+     * The number of messages suppressed so far. The count is shared by the keys of the same permits and time unit.
+     * @return The suppressed message count.
+     */
+    public long getSuppressedCount() {
+        return shared.suppressed.sum();
+    }
+}
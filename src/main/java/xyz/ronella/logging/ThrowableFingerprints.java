@@ -0,0 +1,134 @@
+package xyz.ronella.logging;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the throwables already rendered by their fingerprint.
+ *
+ * <p>The fingerprint is computed from the types and the frames of the throwable and its causes. The first
+ * occurrence of a fingerprint is rendered with the full stack trace and the rest with a single line referring to
+ * it. The fingerprints are kept in a bounded cache that evicts the least recently seen and the expired ones.</p>
+ *
+ * @author Ron Webb
+ * @since 1.3.0
+ */
+public class ThrowableFingerprints {
+
+    private static final int MAX_CAUSES = 64;
+
+    final private long ttl;
+
+    final private Map<Long, Occurrence> occurrences;
+
+    private static final class Occurrence {
+        private final long firstSeen;
+        private long count = 1;
+
+        private Occurrence(final long firstSeen) {
+            this.firstSeen = firstSeen;
+        }
+    }
+
+    /**
+     * Creates an instance of ThrowableFingerprints.
+     * @param maxEntries The maximum number of fingerprints remembered.
+     * @param ttl How long a fingerprint is remembered before its full stack trace is rendered again.
+     * @param unit The time unit of the ttl.
+     */
+    public ThrowableFingerprints(final int maxEntries, final long ttl, final TimeUnit unit) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("The maximum entries must be positive.");
+        }
+        this.ttl = unit.toNanos(ttl);
+        this.occurrences = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Occurrence> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Computes the fingerprint of the throwable from its types and frames, including its causes.
+     * @param throwable An instance of throwable.
+     * @return The fingerprint.
+     */
+    public static long fingerprint(final Throwable throwable) {
+        final var seen = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
+        var hash = 1125899906842597L;
+        var current = throwable;
+        while (null!=current && seen.size() < MAX_CAUSES && seen.add(current)) {
+            hash = 31 * hash + current.getClass().getName().hashCode();
+            for (final var frame : current.getStackTrace()) {
+                hash = 31 * hash + frame.hashCode();
+            }
+            current = current.getCause();
+        }
+        return hash ^ (hash >>> 29);
+    }
+
+    /**
+     * The identifier of a fingerprint as written in the log.
+     * @param fingerprint The fingerprint.
+     * @return The identifier.
+     */
+    public static String id(final long fingerprint) {
+        return Long.toHexString(fingerprint);
+    }
+
+    /**
+     * Renders the full stack trace on the first occurrence of the fingerprint and a single line afterwards.
+     * @param throwable An instance of throwable.
+     * @param renderer The renderer of the full stack trace.
+     * @return The rendered throwable or null if the throwable is null.
+     */
+    public String render(final Throwable throwable, final StackTraceRenderer renderer) {
+        if (null==throwable) {
+            return null;
+        }
+        final var fingerprint = fingerprint(throwable);
+        final var count = occurred(fingerprint);
+        final var id = id(fingerprint);
+        if (count == 1) {
+            return "[" + id + "] " + renderer.render(throwable);
+        }
+        return "[" + id + "] " + reference(throwable, count);
+    }
+
+    /**
+     * The single line rendered instead of the stack trace after the first occurrence.
+     * @param throwable An instance of throwable.
+     * @param count The number of occurrences.
+     * @return The throwable and its occurrence count.
+     */
+    static String reference(final Throwable throwable, final long count) {
+        return throwable + " (occurrence " + count + ", stack trace logged earlier)";
+    }
+
+    /**
+     * Records an occurrence of the fingerprint.
+     * @param fingerprint The fingerprint.
+     * @return The number of occurrences since the fingerprint was first seen, 1 if first seen or expired.
+     */
+    public synchronized long occurred(final long fingerprint) {
+        final var now = System.nanoTime();
+        final var occurrence = occurrences.get(fingerprint);
+        if (null==occurrence || now - occurrence.firstSeen >= ttl) {
+            occurrences.put(fingerprint, new Occurrence(now));
+            return 1;
+        }
+        return ++occurrence.count;
+    }
+
+    /**
+     * The number of fingerprints remembered.
+     * @return The fingerprint count.
+     */
+    public synchronized int size() {
+        return occurrences.size();
+    }
+}
@@ -0,0 +1,379 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.NOPLogger;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Asserts the bytes allocated per log call, measured with the allocation counter of the current thread.
+ */
+public class AllocationTest {
+
+    private static final int WARM_UP = 20_000;
+
+    private static final int CALLS = 10_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final String MESSAGE = "Message";
+
+    private static final String FORMAT = "Value %s";
+
+    private static final Object VALUE = "value";
+
+    private static final Object[] VALUES = {"value1", "value2"};
+
+    private static final Supplier<String> SUPPLIER = () -> MESSAGE;
+
+    private static final Throwable THROWABLE = new IllegalStateException("Allocation");
+
+    private static final LoggerPlus DISABLED = new LoggerPlus(NOPLogger.NOP_LOGGER);
+
+    private static final LoggerPlus ENABLED = new LoggerPlus(new DiscardingLogger());
+
+    private static long overhead;
+
+    /**
+     * A Logger with every level enabled that discards the messages.
+     */
+    private static final class DiscardingLogger extends LegacyAbstractLogger {
+
+        private static final long serialVersionUID = 1L;
+
+        private DiscardingLogger() {
+            this.name = "DiscardingLogger";
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern,
+                                                   final Object[] arguments, final Throwable throwable) {
+            // Discarded.
+        }
+    }
+
+    @BeforeAll
+    public static void measureOverhead() {
+        assumeAllocationCounter();
+        overhead = allocated(() -> {});
+    }
+
+    private static void assumeAllocationCounter() {
+        Assumptions.assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long allocated(final Runnable call) {
+        for (var count = 0; count < WARM_UP; count++) {
+            call.run();
+        }
+        final var threadId = Thread.currentThread().getId();
+        final var before = THREADS.getThreadAllocatedBytes(threadId);
+        for (var count = 0; count < CALLS; count++) {
+            call.run();
+        }
+        return THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static long bytesPerCall(final Runnable call) {
+        return Math.max(0, allocated(call) - overhead) / CALLS;
+    }
+
+    private static void assertNoAllocation(final String calls, final Runnable call) {
+        assertEquals(0, bytesPerCall(call), calls + " allocated while disabled.");
+    }
+
+    private static void assertBudget(final String calls, final long budget, final Runnable call) {
+        final var bytes = bytesPerCall(call);
+        assertTrue(bytes <= budget, calls + " allocated " + bytes + " bytes per call, the budget is " + budget + ".");
+    }
+
+    @Test
+    public void disabledError() {
+        assertNoAllocation("LoggerPlus.error", () -> {
+            DISABLED.error(MESSAGE);
+            DISABLED.error(SUPPLIER);
+            DISABLED.error(FORMAT, VALUES);
+            DISABLED.error(FORMAT, VALUE);
+            DISABLED.error(FORMAT, VALUE, VALUE);
+            DISABLED.error(FORMAT, VALUE, VALUE, VALUE);
+            DISABLED.error(FORMAT, VALUE, VALUE, VALUE, VALUE);
+            DISABLED.error(FORMAT, 1);
+            DISABLED.error(FORMAT, 1L);
+            DISABLED.error(FORMAT, 1.0d);
+            DISABLED.error(FORMAT, 1.0f);
+            DISABLED.error(FORMAT, 'c');
+            DISABLED.error(FORMAT, true);
+            DISABLED.error(MESSAGE, THROWABLE);
+            DISABLED.error(SUPPLIER, THROWABLE);
+        });
+    }
+
+    @Test
+    public void disabledWarn() {
+        assertNoAllocation("LoggerPlus.warn", () -> {
+            DISABLED.warn(MESSAGE);
+            DISABLED.warn(SUPPLIER);
+            DISABLED.warn(FORMAT, VALUES);
+            DISABLED.warn(FORMAT, VALUE);
+            DISABLED.warn(FORMAT, VALUE, VALUE);
+            DISABLED.warn(FORMAT, VALUE, VALUE, VALUE);
+            DISABLED.warn(FORMAT, VALUE, VALUE, VALUE, VALUE);
+            DISABLED.warn(FORMAT, 1);
+            DISABLED.warn(FORMAT, 1L);
+            DISABLED.warn(FORMAT, 1.0d);
+            DISABLED.warn(FORMAT, 1.0f);
+            DISABLED.warn(FORMAT, 'c');
+            DISABLED.warn(FORMAT, true);
+            DISABLED.warn(MESSAGE, THROWABLE);
+            DISABLED.warn(SUPPLIER, THROWABLE);
+        });
+    }
+
+    @Test
+    public void disabledInfo() {
+        assertNoAllocation("LoggerPlus.info", () -> {
+            DISABLED.info(MESSAGE);
+            DISABLED.info(SUPPLIER);
+            DISABLED.info(FORMAT, VALUES);
+            DISABLED.info(FORMAT, VALUE);
+            DISABLED.info(FORMAT, VALUE, VALUE);
+            DISABLED.info(FORMAT, VALUE, VALUE, VALUE);
+            DISABLED.info(FORMAT, VALUE, VALUE, VALUE, VALUE);
+            DISABLED.info(FORMAT, 1);
+            DISABLED.info(FORMAT, 1L);
+            DISABLED.info(FORMAT, 1.0d);
+            DISABLED.info(FORMAT, 1.0f);
+            DISABLED.info(FORMAT, 'c');
+            DISABLED.info(FORMAT, true);
+            DISABLED.info(MESSAGE, THROWABLE);
+            DISABLED.info(SUPPLIER, THROWABLE);
+        });
+    }
+
+    @Test
+    public void disabledDebug() {
+        assertNoAllocation("LoggerPlus.debug", () -> {
+            DISABLED.debug(MESSAGE);
+            DISABLED.debug(SUPPLIER);
+            DISABLED.debug(FORMAT, VALUES);
+            DISABLED.debug(FORMAT, VALUE);
+            DISABLED.debug(FORMAT, VALUE, VALUE);
+            DISABLED.debug(FORMAT, VALUE, VALUE, VALUE);
+            DISABLED.debug(FORMAT, VALUE, VALUE, VALUE, VALUE);
+            DISABLED.debug(FORMAT, 1);
+            DISABLED.debug(FORMAT, 1L);
+            DISABLED.debug(FORMAT, 1.0d);
+            DISABLED.debug(FORMAT, 1.0f);
+            DISABLED.debug(FORMAT, 'c');
+            DISABLED.debug(FORMAT, true);
+            DISABLED.debug(MESSAGE, THROWABLE);
+            DISABLED.debug(SUPPLIER, THROWABLE);
+        });
+    }
+
+    @Test
+    public void disabledTrace() {
+        assertNoAllocation("LoggerPlus.trace", () -> {
+            DISABLED.trace(MESSAGE);
+            DISABLED.trace(SUPPLIER);
+            DISABLED.trace(FORMAT, VALUES);
+            DISABLED.trace(FORMAT, VALUE);
+            DISABLED.trace(FORMAT, VALUE, VALUE);
+            DISABLED.trace(FORMAT, VALUE, VALUE, VALUE);
+            DISABLED.trace(FORMAT, VALUE, VALUE, VALUE, VALUE);
+            DISABLED.trace(FORMAT, 1);
+            DISABLED.trace(FORMAT, 1L);
+            DISABLED.trace(FORMAT, 1.0d);
+            DISABLED.trace(FORMAT, 1.0f);
+            DISABLED.trace(FORMAT, 'c');
+            DISABLED.trace(FORMAT, true);
+            DISABLED.trace(MESSAGE, THROWABLE);
+            DISABLED.trace(SUPPLIER, THROWABLE);
+        });
+    }
+
+    @Test
+    public void disabledExtras() {
+        assertNoAllocation("LoggerPlus.at and if", () -> {
+            DISABLED.atDebug().kv("key", 1).log(MESSAGE);
+            DISABLED.ifDebug(___scope -> ___scope.log(MESSAGE));
+            DISABLED.ifTrace(___scope -> ___scope.log(MESSAGE));
+        });
+    }
+
+    @Test
+    public void disabledGroup() {
+        try (var gLOG = DISABLED.groupLog("disabledGroup")) {
+            assertNoAllocation("GroupLogger.error", () -> {
+                gLOG.error(MESSAGE);
+                gLOG.error(SUPPLIER);
+                gLOG.error(FORMAT, VALUES);
+                gLOG.error(FORMAT, VALUE);
+                gLOG.error(FORMAT, VALUE, VALUE);
+                gLOG.error(FORMAT, VALUE, VALUE, VALUE);
+                gLOG.error(FORMAT, VALUE, VALUE, VALUE, VALUE);
+                gLOG.error(FORMAT, 1);
+                gLOG.error(FORMAT, 1L);
+                gLOG.error(FORMAT, 1.0d);
+                gLOG.error(FORMAT, 1.0f);
+                gLOG.error(FORMAT, 'c');
+                gLOG.error(FORMAT, true);
+                gLOG.error(MESSAGE, THROWABLE);
+                gLOG.error(SUPPLIER, THROWABLE);
+            });
+            assertNoAllocation("GroupLogger.warn", () -> {
+                gLOG.warn(MESSAGE);
+                gLOG.warn(SUPPLIER);
+                gLOG.warn(FORMAT, VALUES);
+                gLOG.warn(FORMAT, VALUE);
+                gLOG.warn(FORMAT, VALUE, VALUE);
+                gLOG.warn(FORMAT, VALUE, VALUE, VALUE);
+                gLOG.warn(FORMAT, VALUE, VALUE, VALUE, VALUE);
+                gLOG.warn(FORMAT, 1);
+                gLOG.warn(FORMAT, 1L);
+                gLOG.warn(FORMAT, 1.0d);
+                gLOG.warn(FORMAT, 1.0f);
+                gLOG.warn(FORMAT, 'c');
+                gLOG.warn(FORMAT, true);
+                gLOG.warn(MESSAGE, THROWABLE);
+                gLOG.warn(SUPPLIER, THROWABLE);
+            });
+            assertNoAllocation("GroupLogger.info", () -> {
+                gLOG.info(MESSAGE);
+                gLOG.info(SUPPLIER);
+                gLOG.info(FORMAT, VALUES);
+                gLOG.info(FORMAT, VALUE);
+                gLOG.info(FORMAT, VALUE, VALUE);
+                gLOG.info(FORMAT, VALUE, VALUE, VALUE);
+                gLOG.info(FORMAT, VALUE, VALUE, VALUE, VALUE);
+                gLOG.info(FORMAT, 1);
+                gLOG.info(FORMAT, 1L);
+                gLOG.info(FORMAT, 1.0d);
+                gLOG.info(FORMAT, 1.0f);
+                gLOG.info(FORMAT, 'c');
+                gLOG.info(FORMAT, true);
+                gLOG.info(MESSAGE, THROWABLE);
+                gLOG.info(SUPPLIER, THROWABLE);
+            });
+            assertNoAllocation("GroupLogger.debug", () -> {
+                gLOG.debug(MESSAGE);
+                gLOG.debug(SUPPLIER);
+                gLOG.debug(FORMAT, VALUES);
+                gLOG.debug(FORMAT, VALUE);
+                gLOG.debug(FORMAT, VALUE, VALUE);
+                gLOG.debug(FORMAT, VALUE, VALUE, VALUE);
+                gLOG.debug(FORMAT, VALUE, VALUE, VALUE, VALUE);
+                gLOG.debug(FORMAT, 1);
+                gLOG.debug(FORMAT, 1L);
+                gLOG.debug(FORMAT, 1.0d);
+                gLOG.debug(FORMAT, 1.0f);
+                gLOG.debug(FORMAT, 'c');
+                gLOG.debug(FORMAT, true);
+                gLOG.debug(MESSAGE, THROWABLE);
+                gLOG.debug(SUPPLIER, THROWABLE);
+                gLOG.ifDebug(___scope -> ___scope.log(MESSAGE));
+            });
+            assertNoAllocation("GroupLogger.trace", () -> {
+                gLOG.trace(MESSAGE);
+                gLOG.trace(SUPPLIER);
+                gLOG.trace(FORMAT, VALUES);
+                gLOG.trace(FORMAT, VALUE);
+                gLOG.trace(FORMAT, VALUE, VALUE);
+                gLOG.trace(FORMAT, VALUE, VALUE, VALUE);
+                gLOG.trace(FORMAT, VALUE, VALUE, VALUE, VALUE);
+                gLOG.trace(FORMAT, 1);
+                gLOG.trace(FORMAT, 1L);
+                gLOG.trace(FORMAT, 1.0d);
+                gLOG.trace(FORMAT, 1.0f);
+                gLOG.trace(FORMAT, 'c');
+                gLOG.trace(FORMAT, true);
+                gLOG.trace(MESSAGE, THROWABLE);
+                gLOG.trace(SUPPLIER, THROWABLE);
+                gLOG.ifTrace(___scope -> ___scope.log(MESSAGE));
+            });
+        }
+    }
+
+    @Test
+    public void disabledGroupLog() {
+        assertNoAllocation("LoggerPlus.groupLog", () -> {
+            try (var gLOG = DISABLED.groupLog("disabledGroupLog")) {
+                gLOG.debug(MESSAGE);
+            }
+        });
+    }
+
+    @Test
+    public void enabledMessage() {
+        assertBudget("LoggerPlus.info(String)", 0, () -> ENABLED.info(MESSAGE));
+        assertBudget("LoggerPlus.info(Supplier)", 0, () -> ENABLED.info(SUPPLIER));
+        assertBudget("LoggerPlus.ifDebug", 0, () -> ENABLED.ifDebug(___scope -> ___scope.log(MESSAGE)));
+    }
+
+    @Test
+    public void enabledFormatted() {
+        assertBudget("LoggerPlus.info(String, Object)", 160, () -> ENABLED.info(FORMAT, VALUE));
+        assertBudget("LoggerPlus.info(String, int)", 192, () -> ENABLED.info("Value %d", 12345));
+        assertBudget("LoggerPlus.info(String, Object...)", 160, () -> ENABLED.info("Values %s %s", VALUES));
+        assertBudget("LoggerPlus.info(String, Throwable)", 160, () -> ENABLED.info(MESSAGE, THROWABLE));
+    }
+
+    @Test
+    public void enabledKeyValues() {
+        assertBudget("LoggerPlus.atInfo().kv", 1024, () -> ENABLED.atInfo().kv("key", 1).log(MESSAGE));
+    }
+
+    @Test
+    public void enabledGroupLog() {
+        assertBudget("LoggerPlus.groupLog", 128, () -> {
+            try (var gLOG = ENABLED.groupLog("enabledGroupLog")) {
+                gLOG.info(MESSAGE);
+            }
+        });
+        assertBudget("LoggerPlus.groupLog formatted", 192, () -> {
+            try (var gLOG = ENABLED.groupLog("enabledGroupLog")) {
+                gLOG.info(FORMAT, VALUE);
+            }
+        });
+    }
+}
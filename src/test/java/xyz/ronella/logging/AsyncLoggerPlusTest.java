@@ -0,0 +1,192 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncLoggerPlusTest {
+
+    private static Logger enabledLogger() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.getName()).thenReturn("AsyncLoggerPlusTest");
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void loggerFailureCounted() {
+        var logger = enabledLogger();
+        Mockito.doThrow(new IllegalStateException("Backend failed")).when(logger).info("failing");
+        var failures = LoggerPlus.getInternalErrorCount();
+        try (var asyncLogger = new AsyncLoggerPlus(logger)) {
+            asyncLogger.info("failing");
+            asyncLogger.info("following");
+            asyncLogger.flush();
+        }
+        Mockito.verify(logger).info("following");
+        assertTrue(LoggerPlus.getInternalErrorCount() > failures);
+    }
+
+    @Test
+    public void flushedInOrder() {
+        var logger = enabledLogger();
+        try (var asyncLogger = new AsyncLoggerPlus(logger)) {
+            asyncLogger.info("first");
+            asyncLogger.warn("second %s", "message");
+            asyncLogger.error(() -> "third");
+            asyncLogger.flush();
+            var order = Mockito.inOrder(logger);
+            order.verify(logger).info("first");
+            order.verify(logger).warn("second message");
+            order.verify(logger).error("third");
+        }
+    }
+
+    @Test
+    public void disabledNotQueued() {
+        var logger = enabledLogger();
+        try (var asyncLogger = new AsyncLoggerPlus(logger)) {
+            asyncLogger.trace("ignored");
+            asyncLogger.flush();
+            Mockito.verify(logger, Mockito.never()).trace(Mockito.anyString());
+        }
+    }
+
+    @Test
+    public void groupLogger() {
+        var logger = enabledLogger();
+        try (var asyncLogger = new AsyncLoggerPlus(logger)) {
+            try (var gLOG = asyncLogger.groupLog("groupLogger")) {
+                gLOG.info("Processing");
+            }
+            asyncLogger.flush();
+            var order = Mockito.inOrder(logger);
+            order.verify(logger).debug("groupLogger [BEGIN]");
+            order.verify(logger).info("groupLogger Processing");
+            order.verify(logger).debug("groupLogger [END]");
+        }
+    }
+
+    @Test
+    public void manyProducers() throws InterruptedException {
+        var logger = enabledLogger();
+        var producers = 4;
+        var messages = 5_000;
+        try (var asyncLogger = new AsyncLoggerPlus(logger, 64, AsyncLoggerPlus.Backpressure.BLOCK)) {
+            var threads = new ArrayList<Thread>();
+            for (var producer = 0; producer < producers; producer++) {
+                var thread = new Thread(() -> {
+                    for (var message = 0; message < messages; message++) {
+                        asyncLogger.info("message");
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (var thread : threads) {
+                thread.join();
+            }
+            asyncLogger.flush();
+            Mockito.verify(logger, Mockito.times(producers * messages)).info("message");
+            assertEquals(0, asyncLogger.getDroppedCount());
+        }
+    }
+
+    private static Logger blockingLogger(final CountDownLatch release) {
+        var logger = enabledLogger();
+        Mockito.doAnswer(___invocation -> {
+            release.await();
+            return null;
+        }).when(logger).info(Mockito.anyString());
+        return logger;
+    }
+
+    @Test
+    public void dropNewest() {
+        var release = new CountDownLatch(1);
+        var logger = blockingLogger(release);
+        try (var asyncLogger = new AsyncLoggerPlus(logger, 2, AsyncLoggerPlus.Backpressure.DROP_NEWEST)) {
+            for (var message = 0; message < 10; message++) {
+                asyncLogger.info("message");
+            }
+            assertTrue(asyncLogger.getDroppedCount() > 0);
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void dropByLevel() {
+        var release = new CountDownLatch(1);
+        var logger = blockingLogger(release);
+        try (var asyncLogger = new AsyncLoggerPlus(logger, 2, 1, AsyncLoggerPlus.Backpressure.DROP_BY_LEVEL,
+                Level.WARN)) {
+            for (var message = 0; message < 10; message++) {
+                asyncLogger.info("message");
+            }
+            var dropped = asyncLogger.getDroppedCount();
+            assertTrue(dropped > 0);
+            release.countDown();
+            asyncLogger.error("kept");
+            asyncLogger.flush();
+            Mockito.verify(logger).error("kept");
+            assertEquals(dropped, asyncLogger.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void afterClose() {
+        var logger = enabledLogger();
+        var asyncLogger = new AsyncLoggerPlus(logger);
+        asyncLogger.close();
+        asyncLogger.info("synchronous");
+        Mockito.verify(logger).info("synchronous");
+    }
+
+    @Test
+    public void closedWhileLogging() throws InterruptedException {
+        var logger = enabledLogger();
+        var producers = 4;
+        var messages = 5_000;
+        var started = new CountDownLatch(producers);
+        var asyncLogger = new AsyncLoggerPlus(logger, 64, AsyncLoggerPlus.Backpressure.BLOCK);
+        var threads = new ArrayList<Thread>();
+        for (var producer = 0; producer < producers; producer++) {
+            var thread = new Thread(() -> {
+                started.countDown();
+                for (var message = 0; message < messages; message++) {
+                    asyncLogger.info("message");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        started.await();
+        asyncLogger.close();
+        for (var thread : threads) {
+            thread.join();
+        }
+        Mockito.verify(logger, Mockito.times(producers * messages)).info("message");
+    }
+
+    @Test
+    public void throwable() {
+        var logger = enabledLogger();
+        var exception = new IllegalStateException("failed");
+        try (var asyncLogger = new AsyncLoggerPlus(logger)) {
+            asyncLogger.error("Failed", exception);
+            asyncLogger.warn("Retry %d", 2, exception);
+            asyncLogger.flush();
+            Mockito.verify(logger).error("Failed", exception);
+            Mockito.verify(logger).warn("Retry 2", exception);
+        }
+    }
+}
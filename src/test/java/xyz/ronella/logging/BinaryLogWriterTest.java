@@ -0,0 +1,185 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryLogWriterTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("binary");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (var files = Files.walk(directory)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private List<String> decode() throws IOException {
+        final List<Path> files;
+        try (var list = Files.list(directory)) {
+            files = list.sorted().toList();
+        }
+        var output = new ByteArrayOutputStream();
+        try (var out = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            BinaryLogDecoder.decode(files, out);
+        }
+        return Arrays.asList(output.toString(StandardCharsets.UTF_8).split(System.lineSeparator()));
+    }
+
+    private MappedFileSink sink(final int segmentSize) throws IOException {
+        return new MappedFileSink(directory, "binary", segmentSize, 10, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            assertTrue(writer.write(Level.INFO, "Plain %d"));
+            assertTrue(writer.write(Level.DEBUG, null, "%d %s %.2f %b %c", 42, "text", 1.5d, true, 'x'));
+            assertTrue(writer.write(Level.DEBUG, null, "%d %s %.2f %b %c", 7, null, 2.25d, false, 'y'));
+            assertTrue(writer.write(Level.WARN, "group ", "%d%% done", 50L));
+            assertEquals(3, writer.getFormatCount());
+        }
+        var lines = decode();
+        var thread = " [" + Thread.currentThread().getId() + "] ";
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).matches("\\d+ INFO \\[\\d+] Plain %d"), lines.get(0));
+        assertTrue(lines.get(1).endsWith("DEBUG" + thread + "42 text 1.50 true x"), lines.get(1));
+        assertTrue(lines.get(2).endsWith("DEBUG" + thread + "7 null 2.25 false y"), lines.get(2));
+        assertTrue(lines.get(3).endsWith("WARN" + thread + "group 50% done"), lines.get(3));
+    }
+
+    @Test
+    public void mismatchedValues() throws IOException {
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            assertTrue(writer.write(Level.ERROR, null, "Count %d", "many"));
+            assertTrue(writer.write(Level.INFO, null, "Count %d", 3));
+        }
+        var lines = decode();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("ERROR [" + Thread.currentThread().getId() + "] <unformattable> Count %d [many]"),
+                lines.get(0));
+        assertTrue(lines.get(1).endsWith("INFO [" + Thread.currentThread().getId() + "] Count 3"), lines.get(1));
+    }
+
+    @Test
+    public void restarted() throws IOException {
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            assertTrue(writer.write(Level.INFO, null, "run1 count=%d", 42));
+        }
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            assertTrue(writer.write(Level.INFO, null, "run2 name=%s", "bob"));
+        }
+        var lines = decode();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("run1 count=42"), lines.get(0));
+        assertTrue(lines.get(1).endsWith("run2 name=bob"), lines.get(1));
+    }
+
+    @Test
+    public void renderedObject() throws IOException {
+        var values = new StringBuilder("before");
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            writer.write(Level.INFO, null, "Value %s", values);
+            values.append(" after");
+            assertEquals(1, writer.getFormatCount());
+        }
+        var lines = decode();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("Value before"), lines.get(0));
+    }
+
+    @Test
+    public void threads() throws IOException, InterruptedException {
+        var threads = new Thread[4];
+        try (var writer = new BinaryLogWriter(sink(512))) {
+            for (var thread = 0; thread < threads.length; thread++) {
+                var id = thread;
+                threads[thread] = new Thread(() -> {
+                    for (var count = 0; count < 250; count++) {
+                        writer.write(Level.TRACE, null, "thread %d event %d", id, count);
+                    }
+                });
+                threads[thread].start();
+            }
+            for (var thread : threads) {
+                thread.join();
+            }
+            assertEquals(1, writer.getFormatCount());
+        }
+        var lines = decode();
+        assertEquals(1000, lines.size());
+        assertEquals(1000, lines.stream().map(___line -> ___line.substring(___line.indexOf("thread "))).distinct()
+                .count());
+    }
+
+    @Test
+    public void binaryLoggerPlus() throws IOException {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            var loggerPlus = new LoggerPlus(logger).binary(writer);
+            loggerPlus.info("Count %d", 3);
+            loggerPlus.debug("Disabled %d", 4);
+            loggerPlus.info("Plain");
+            try (var gLOG = loggerPlus.groupLog("binary", false)) {
+                gLOG.info("Grouped %s", "value");
+            }
+            loggerPlus.atInfo().kv("id", 7).log("Pairs");
+        }
+        Mockito.verify(logger, Mockito.never()).info(Mockito.anyString());
+        var lines = decode();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).endsWith("INFO [" + Thread.currentThread().getId() + "] Count 3"), lines.get(0));
+        assertTrue(lines.get(1).endsWith("Plain"));
+        assertTrue(lines.get(2).endsWith("binary Grouped value"), lines.get(2));
+        assertTrue(lines.get(3).endsWith("Pairs id=7"));
+    }
+
+    @Test
+    public void truncated() throws IOException {
+        try (var writer = new BinaryLogWriter(sink(4096))) {
+            writer.write(Level.INFO, null, "Kept %s", "first");
+            writer.write(Level.INFO, null, "Cut %s", "second");
+        }
+        var file = directory.resolve("binary-000001.log");
+        var bytes = Files.readAllBytes(file);
+        var end = bytes.length;
+        while (bytes[end - 1] == 0) {
+            end--;
+        }
+        Files.write(file, Arrays.copyOf(bytes, end - 3));
+        var lines = decode();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("Kept first"));
+    }
+
+    @Test
+    public void binaryRequired() {
+        var loggerPlus = new LoggerPlus(Mockito.mock(Logger.class));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.binary(null));
+    }
+}
@@ -0,0 +1,144 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedLoggerPlusTest {
+
+    private static Logger enabledLogger() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void shortValuesUnchanged() {
+        var values = new Object[] {"short", 12345678901L, 1.5d, 'c', true, null};
+        assertSame(values, BoundedLoggerPlus.boundAll(values, 10));
+    }
+
+    @Test
+    public void charSequence() {
+        assertEquals("abcde\u2026(+5 more)", BoundedLoggerPlus.bound("abcdefghij", 5));
+        assertEquals("abcde\u2026(+5 more)", BoundedLoggerPlus.bound(new StringBuilder("abcdefghij"), 5));
+    }
+
+    @Test
+    public void array() {
+        assertEquals("[1, 2, 3\u2026(+7 more)]", BoundedLoggerPlus.bound(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, 8));
+        assertEquals("[a, b\u2026(+1 more)]", BoundedLoggerPlus.bound(new String[] {"a", "b", "c"}, 5));
+        assertEquals("[1, 2]", BoundedLoggerPlus.bound(new long[] {1, 2}, 8));
+    }
+
+    @Test
+    public void collectionStopsEarly() {
+        var visited = new AtomicInteger();
+        var huge = new ArrayList<Integer>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                var delegate = super.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public Integer next() {
+                        visited.incrementAndGet();
+                        return delegate.next();
+                    }
+                };
+            }
+        };
+        for (var count = 0; count < 100_000; count++) {
+            huge.add(count);
+        }
+        assertEquals("[0, 1, 2, 3\u2026(+99996 more)]", BoundedLoggerPlus.bound(huge, 10));
+        assertTrue(visited.get() <= 5);
+    }
+
+    @Test
+    public void map() {
+        var map = new LinkedHashMap<String, String>();
+        map.put("a", "1");
+        map.put("b", "2");
+        map.put("c", "3");
+        assertEquals("{a=1, b=2\u2026(+1 more)}", BoundedLoggerPlus.bound(map, 8));
+    }
+
+    @Test
+    public void otherObject() {
+        var value = new Object() {
+            @Override
+            public String toString() {
+                return "0123456789";
+            }
+        };
+        assertEquals("0123\u2026(+6 more)", BoundedLoggerPlus.bound(value, 4));
+    }
+
+    @Test
+    public void boundedMessages() {
+        var logger = enabledLogger();
+        var loggerPlus = new LoggerPlus(logger).bounded(30, 5);
+        loggerPlus.info("Payload %s", "abcdefghij");
+        loggerPlus.info("Items {}", List.of("a", "b", "c", "d"));
+        loggerPlus.info("01234567890123456789012345678901234");
+        loggerPlus.info("Count %d", 1234567890123L);
+        var exception = new IllegalStateException("failed");
+        loggerPlus.error("Failed %s", "abcdefghij", exception);
+
+        Mockito.verify(logger).info("Payload abcde\u2026(+5 more)");
+        Mockito.verify(logger).info("Items [a, b\u2026(+2 more)]");
+        Mockito.verify(logger).info("012345678901234567890123456789\u2026(+5 more)");
+        Mockito.verify(logger).info("Count 1234567890123");
+        Mockito.verify(logger).error("Failed abcde\u2026(+5 more)", exception);
+    }
+
+    @Test
+    public void boundedGroup() {
+        var logger = enabledLogger();
+        var loggerPlus = new LoggerPlus(logger).bounded(40, 5);
+        try (var gLOG = loggerPlus.groupLog("boundedGroup", false)) {
+            gLOG.info("Payload %s", "abcdefghij");
+            gLOG.info("A message longer than the limit of forty");
+        }
+        Mockito.verify(logger).info("boundedGroup Payload abcde\u2026(+5 more)");
+        Mockito.verify(logger).info("boundedGroup A message longer than the l\u2026(+13 more)");
+    }
+
+    @Test
+    public void boundedBufferedGroup() {
+        var logger = enabledLogger();
+        var separator = System.lineSeparator();
+        var loggerPlus = new LoggerPlus(logger).bounded(32, 100);
+        try (var gLOG = loggerPlus.groupLog("bg", LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+            gLOG.info("First");
+            gLOG.info("Second");
+            gLOG.info("Third");
+            gLOG.info("0123456789012345678901234567890123456789");
+            gLOG.info("Fourth");
+        }
+        Mockito.verify(logger).info("bg First" + separator + "bg Second" + separator + "bg Third");
+        Mockito.verify(logger).info("bg 01234567890123456789012345678\u2026(+11 more)");
+        Mockito.verify(logger).info("bg Fourth");
+    }
+
+    @Test
+    public void invalidLimits() {
+        var loggerPlus = new LoggerPlus(enabledLogger());
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.bounded(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.bounded(10, 0));
+    }
+}
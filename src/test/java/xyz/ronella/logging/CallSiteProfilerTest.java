@@ -0,0 +1,240 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallSiteProfilerTest {
+
+    private static Logger infoLogger(final String name) {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.getName()).thenReturn(name);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void disabledByDefault() {
+        var loggerPlus = new LoggerPlus(infoLogger("disabledByDefault"));
+        loggerPlus.info("Not profiled");
+        assertNull(loggerPlus.getProfiler());
+    }
+
+    @Test
+    public void keyedByTemplate() {
+        var loggerPlus = new LoggerPlus(infoLogger("keyedByTemplate"));
+        var profiler = loggerPlus.enableProfiler();
+        try {
+            for (var count = 0; count < 3; count++) {
+                loggerPlus.info("Item %s", count);
+            }
+            loggerPlus.info("Done");
+            loggerPlus.warn("Done");
+            loggerPlus.debug("Hidden %s", "value");
+
+            var top = profiler.top(10);
+            assertEquals(3, top.size());
+            var first = top.get(0);
+            assertEquals(CallSiteProfiler.Kind.TEMPLATE, first.kind());
+            assertEquals("Item %s", first.key());
+            assertEquals(Level.INFO, first.level());
+            assertEquals(3, first.count());
+            assertEquals(0, first.error());
+            assertEquals("Item 0Item 1Item 2".length(), first.characters());
+            assertTrue(first.nanos() > 0);
+        }
+        finally {
+            loggerPlus.disableProfiler();
+        }
+        loggerPlus.info("Item %s", 3);
+        assertEquals(3, profiler.top(1).get(0).count());
+    }
+
+    @Test
+    public void keyedBySupplierClass() {
+        var loggerPlus = new LoggerPlus(infoLogger("keyedBySupplierClass"));
+        var profiler = loggerPlus.enableProfiler();
+        final Supplier<String> message = () -> "Computed";
+        loggerPlus.info(message);
+        loggerPlus.info(message);
+
+        var site = profiler.top(1).get(0);
+        assertEquals(CallSiteProfiler.Kind.CLASS, site.kind());
+        assertEquals(message.getClass().getName(), site.key());
+        assertEquals(2, site.count());
+    }
+
+    @Test
+    public void keyedByGroup() {
+        var loggerPlus = new LoggerPlus(infoLogger("keyedByGroup"));
+        var profiler = loggerPlus.enableProfiler();
+        try (var gLOG = loggerPlus.groupLog("accept")) {
+            gLOG.info("First");
+            gLOG.info("Second %s", "value");
+            gLOG.warn("Third");
+        }
+
+        var top = profiler.top(10);
+        assertEquals(2, top.size());
+        assertEquals(CallSiteProfiler.Kind.GROUP, top.get(0).kind());
+        assertEquals("accept", top.get(0).key());
+        assertEquals(Level.INFO, top.get(0).level());
+        assertEquals(2, top.get(0).count());
+        assertEquals(Level.WARN, top.get(1).level());
+    }
+
+    @Test
+    public void keyValues() {
+        var loggerPlus = new LoggerPlus(LoggerFactory.getLogger(CallSiteProfilerTest.class));
+        var profiler = loggerPlus.enableProfiler();
+        loggerPlus.atInfo().kv("key", 1).log("Event %s", "value");
+
+        var site = profiler.top(1).get(0);
+        assertEquals("Event %s", site.key());
+        assertEquals(1, site.count());
+    }
+
+    @Test
+    public void sharedWithViews() {
+        var loggerPlus = new LoggerPlus(infoLogger("sharedWithViews"));
+        var limited = loggerPlus.sampled(1.0);
+        var profiler = limited.enableProfiler();
+        assertSame(profiler, loggerPlus.getProfiler());
+        limited.info("Sampled");
+        assertEquals(1, profiler.top(1).get(0).count());
+    }
+
+    @Test
+    public void boundedKeepsTheMostCounted() {
+        var loggerPlus = new LoggerPlus(infoLogger("boundedKeepsTheMostCounted"));
+        var profiler = loggerPlus.enableProfiler(4);
+        for (var count = 0; count < 100; count++) {
+            loggerPlus.info("Hot");
+        }
+        for (var count = 0; count < 50; count++) {
+            loggerPlus.info("Rare " + count);
+        }
+
+        var top = profiler.top(10);
+        assertEquals(4, top.size());
+        assertEquals("Hot", top.get(0).key());
+        assertEquals(100, top.get(0).count());
+        assertTrue(top.get(1).error() > 0);
+        assertTrue(top.get(1).count() > top.get(1).error());
+    }
+
+    @Test
+    public void topByCost() {
+        var logger = infoLogger("topByCost");
+        Mockito.doAnswer(___invocation -> {
+            TimeUnit.MILLISECONDS.sleep(50);
+            return null;
+        }).when(logger).info("Costly value");
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.info("Cheap");
+        var profiler = loggerPlus.enableProfiler();
+        loggerPlus.info("Cheap");
+        loggerPlus.info("Costly %s", "value");
+
+        var top = profiler.topByCost(1);
+        assertEquals(1, top.size());
+        assertEquals("Costly %s", top.get(0).key());
+    }
+
+    @Test
+    public void report() {
+        var loggerPlus = new LoggerPlus(infoLogger("report"));
+        var profiler = loggerPlus.enableProfiler();
+        loggerPlus.error("Failed %s", "request");
+
+        var report = profiler.report(5);
+        assertTrue(report.startsWith(String.format("%12s", "COUNT")));
+        assertTrue(report.contains("ERROR TEMPLATE Failed %s"));
+
+        profiler.reset();
+        assertTrue(profiler.top(5).isEmpty());
+    }
+
+    @Test
+    public void reportEvery() throws Exception {
+        var loggerPlus = new LoggerPlus(infoLogger("reportEvery"));
+        var profiler = loggerPlus.enableProfiler();
+        loggerPlus.info("Periodic");
+        var reported = new CountDownLatch(2);
+        var reports = profiler.reportEvery(10, TimeUnit.MILLISECONDS, 5, ___report -> {
+            if (___report.contains("Periodic")) {
+                reported.countDown();
+            }
+        });
+        try {
+            assertTrue(reported.await(5, TimeUnit.SECONDS));
+        }
+        finally {
+            reports.close();
+        }
+    }
+
+    @Test
+    public void summaryNotAttributed() {
+        var loggerPlus = new LoggerPlus(infoLogger("summaryNotAttributed"));
+        var deduplicated = loggerPlus.deduplicated(1, TimeUnit.HOURS);
+        var profiler = loggerPlus.enableProfiler();
+        deduplicated.info("Repeated");
+        deduplicated.info("Repeated");
+        deduplicated.flush();
+
+        var site = profiler.top(1).get(0);
+        assertEquals("Repeated", site.key());
+        assertEquals(2, site.count());
+        assertEquals("Repeated".length(), site.characters());
+    }
+
+    @Test
+    public void scopeAttributed() {
+        var logger = infoLogger("scopeAttributed");
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        var loggerPlus = new LoggerPlus(logger);
+        var profiler = loggerPlus.enableProfiler();
+        loggerPlus.ifDebug(___scope -> {
+            ___scope.log("First");
+            ___scope.log("Second");
+        });
+        loggerPlus.info("After");
+
+        var top = profiler.top(10);
+        assertEquals(2, top.size());
+        var block = top.stream().filter(___site -> ___site.kind() == CallSiteProfiler.Kind.CLASS).findFirst()
+                .orElseThrow();
+        assertEquals(1, block.count());
+        assertEquals("FirstSecond".length(), block.characters());
+        var after = top.stream().filter(___site -> "After".equals(___site.key())).findFirst().orElseThrow();
+        assertEquals("After".length(), after.characters());
+    }
+
+    @Test
+    public void resetWhileLogging() {
+        var loggerPlus = new LoggerPlus(infoLogger("resetWhileLogging"));
+        var profiler = loggerPlus.enableProfiler();
+        loggerPlus.info(() -> {
+            profiler.reset();
+            return "Reset";
+        });
+        assertTrue(profiler.top(5).isEmpty());
+    }
+
+    @Test
+    public void invalidCapacity() {
+        var loggerPlus = new LoggerPlus(infoLogger("invalidCapacity"));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.enableProfiler(0));
+    }
+}
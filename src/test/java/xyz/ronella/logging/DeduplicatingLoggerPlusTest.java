@@ -0,0 +1,84 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+public class DeduplicatingLoggerPlusTest {
+
+    private static Logger enabledLogger() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void repeatedSummarized() {
+        var logger = enabledLogger();
+        var deduplicated = new LoggerPlus(logger).deduplicated(1, TimeUnit.HOURS);
+        for (var count = 0; count < 5; count++) {
+            deduplicated.error("Connection refused");
+        }
+        Mockito.verify(logger, Mockito.times(1)).error("Connection refused");
+        deduplicated.flush();
+        Mockito.verify(logger).error("Last message repeated 4 times: Connection refused");
+    }
+
+    @Test
+    public void summarizedAfterWindow() {
+        var logger = enabledLogger();
+        var deduplicated = new LoggerPlus(logger).deduplicated(50, TimeUnit.MILLISECONDS);
+        for (var count = 0; count < 3; count++) {
+            deduplicated.error("Burst");
+        }
+        Mockito.verify(logger, Mockito.timeout(5000)).error("Last message repeated 2 times: Burst");
+        Mockito.verify(logger, Mockito.times(1)).error("Burst");
+    }
+
+    @Test
+    public void levelsDistinct() {
+        var logger = enabledLogger();
+        var deduplicated = new LoggerPlus(logger).deduplicated(1, TimeUnit.HOURS);
+        deduplicated.error("Same text");
+        deduplicated.warn("Same text");
+        Mockito.verify(logger).error("Same text");
+        Mockito.verify(logger).warn("Same text");
+    }
+
+    @Test
+    public void windowExpired() {
+        var logger = enabledLogger();
+        var deduplicated = new LoggerPlus(logger).deduplicated(0, TimeUnit.NANOSECONDS);
+        deduplicated.error("Retrying");
+        deduplicated.error("Retrying");
+        Mockito.verify(logger, Mockito.times(2)).error("Retrying");
+        Mockito.verify(logger, Mockito.never()).error(Mockito.startsWith("Last message repeated"));
+    }
+
+    @Test
+    public void slotReusedSummarized() {
+        var logger = enabledLogger();
+        var deduplicated = new DeduplicatingLoggerPlus(new LoggerPlus(logger), 1, TimeUnit.HOURS, 1);
+        deduplicated.error("First");
+        deduplicated.error("First");
+        deduplicated.error("Second");
+        var order = Mockito.inOrder(logger);
+        order.verify(logger).error("First");
+        order.verify(logger).error("Last message repeated 1 times: First");
+        order.verify(logger).error("Second");
+    }
+
+    @Test
+    public void formattedRendered() {
+        var logger = enabledLogger();
+        var deduplicated = new LoggerPlus(logger).deduplicated(1, TimeUnit.HOURS);
+        deduplicated.error("Attempt %d", 1);
+        deduplicated.error("Attempt %d", 2);
+        deduplicated.error("Attempt %d", 2);
+        Mockito.verify(logger).error("Attempt 1");
+        Mockito.verify(logger).error("Attempt 2");
+    }
+}
@@ -0,0 +1,159 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderLoggerPlusTest {
+
+    private static Logger infoLogger() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    private static List<String> errors(final Logger logger, final int count) {
+        var captor = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(logger, Mockito.times(count)).error(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    public void dumpOnError() {
+        var logger = infoLogger();
+        var loggerPlus = new LoggerPlus(logger).recorded(8);
+        var values = new ArrayList<String>();
+        loggerPlus.debug("Loaded %d rows", 3);
+        loggerPlus.trace("Values %s", values);
+        values.add("added");
+        loggerPlus.info("Visible");
+        loggerPlus.error("Failed");
+
+        Mockito.verify(logger).info("Visible");
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+        var errors = errors(logger, 2);
+        var lines = errors.get(0).split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertEquals(FlightRecorderLoggerPlus.HEADER, lines[0]);
+        assertTrue(lines[1].matches("\\d+ DEBUG Loaded 3 rows"), lines[1]);
+        assertTrue(lines[2].endsWith("TRACE Values [added]"), lines[2]);
+        assertEquals("Failed", errors.get(1));
+    }
+
+    @Test
+    public void suppliersDeferred() {
+        var logger = infoLogger();
+        var loggerPlus = new LoggerPlus(logger).recorded(8);
+        var evaluated = new AtomicInteger();
+        loggerPlus.debug(() -> "Supplied " + evaluated.incrementAndGet());
+        loggerPlus.atTrace().kv("count", () -> evaluated.incrementAndGet()).log(() -> "Event");
+        try (var gLOG = loggerPlus.groupLog("group", false)) {
+            gLOG.debug(() -> "Grouped " + evaluated.incrementAndGet());
+        }
+        assertEquals(0, evaluated.get());
+
+        loggerPlus.error("Failed");
+        assertEquals(3, evaluated.get());
+        var lines = errors(logger, 2).get(0).split(System.lineSeparator());
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].endsWith("DEBUG Supplied 1"), lines[1]);
+        assertTrue(lines[2].endsWith("TRACE Event count=2"), lines[2]);
+        assertTrue(lines[3].endsWith("DEBUG group Grouped 3"), lines[3]);
+    }
+
+    @Test
+    public void ringOverwritesOldest() {
+        var logger = infoLogger();
+        var loggerPlus = new LoggerPlus(logger).recorded(2);
+        loggerPlus.debug("first");
+        loggerPlus.debug("second");
+        loggerPlus.debug("third %s", "100%");
+        loggerPlus.error("Failed");
+        loggerPlus.error("Again");
+
+        var errors = errors(logger, 3);
+        var lines = errors.get(0).split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].endsWith("DEBUG second"));
+        assertTrue(lines[2].endsWith("DEBUG third 100%"));
+        assertEquals("Failed", errors.get(1));
+        assertEquals("Again", errors.get(2));
+    }
+
+    @Test
+    public void perThread() throws InterruptedException {
+        var logger = infoLogger();
+        var loggerPlus = new LoggerPlus(logger).recorded(8);
+        loggerPlus.debug("main");
+        var other = new Thread(() -> {
+            loggerPlus.debug("other");
+            loggerPlus.error("Other failed");
+        });
+        other.start();
+        other.join();
+
+        var errors = errors(logger, 2);
+        assertTrue(errors.get(0).endsWith("DEBUG other"));
+        assertFalse(errors.get(0).contains("main"));
+    }
+
+    @Test
+    public void groupMessages() {
+        var logger = infoLogger();
+        var loggerPlus = new LoggerPlus(logger).recorded(8);
+        try (var gLOG = loggerPlus.groupLog("checkout")) {
+            gLOG.debug("Cart %d", 2);
+            loggerPlus.atDebug().kv("id", 7).log("Pairs");
+            gLOG.error("Declined");
+        }
+
+        var errors = errors(logger, 2);
+        var lines = errors.get(0).split(System.lineSeparator());
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].endsWith("DEBUG checkout [BEGIN]"), lines[1]);
+        assertTrue(lines[2].endsWith("DEBUG checkout Cart 2"), lines[2]);
+        assertTrue(lines[3].endsWith("DEBUG Pairs id=7"), lines[3]);
+        assertEquals("checkout Declined", errors.get(1));
+    }
+
+    @Test
+    public void enabledLevelNotRecorded() {
+        var logger = infoLogger();
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        var loggerPlus = new LoggerPlus(logger).recorded(8, Level.DEBUG);
+        loggerPlus.debug("Logged %s", "now");
+        loggerPlus.trace("Disabled");
+        loggerPlus.error("Failed");
+
+        Mockito.verify(logger).debug("Logged now");
+        assertEquals(List.of("Failed"), errors(logger, 1));
+    }
+
+    @Test
+    public void clear() {
+        var logger = infoLogger();
+        var loggerPlus = new LoggerPlus(logger).recorded(8);
+        loggerPlus.debug("Previous request");
+        loggerPlus.clear();
+        loggerPlus.error("Failed");
+
+        assertEquals(List.of("Failed"), errors(logger, 1));
+    }
+
+    @Test
+    public void invalidCapacity() {
+        var loggerPlus = new LoggerPlus(infoLogger());
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.recorded(0));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.recorded(8, null));
+    }
+}
@@ -0,0 +1,113 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupContextTest {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(GroupContextTest.class);
+
+    @Test
+    public void pushAndPop() {
+        assertNull(GroupContext.current());
+        var checkout = GroupContext.push("checkout");
+        var payment = GroupContext.push("payment");
+        assertEquals("checkout > payment", payment.getPath());
+        assertSame(checkout, payment.getParent());
+        assertSame(payment, GroupContext.current());
+        payment.pop();
+        assertSame(checkout, GroupContext.current());
+        checkout.pop();
+        assertNull(GroupContext.current());
+    }
+
+    @Test
+    public void nestedGroupLogger() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var checkout = loggerPlus.groupLog("checkout", LoggerPlus.GroupLogger.Mode.NESTED)) {
+            checkout.info("Started");
+            try (var payment = loggerPlus.groupLog("payment", LoggerPlus.GroupLogger.Mode.NESTED)) {
+                payment.info("Charged %d", 42);
+            }
+            checkout.info("Done");
+        }
+        assertNull(GroupContext.current());
+        var inOrder = Mockito.inOrder(logger);
+        inOrder.verify(logger).info("checkout Started");
+        inOrder.verify(logger).debug("checkout > payment [BEGIN]");
+        inOrder.verify(logger).info("checkout > payment Charged 42");
+        inOrder.verify(logger).debug("checkout > payment [END]");
+        inOrder.verify(logger).info("checkout Done");
+    }
+
+    @Test
+    public void wrappedExecutorService() throws ExecutionException, InterruptedException {
+        var executor = GroupContext.wrap(Executors.newSingleThreadExecutor());
+        try {
+            var checkout = GroupContext.push("checkout");
+            Paths paths;
+            try {
+                paths = new Paths(executor.submit(() -> GroupContext.current().getPath()).get(),
+                        executor.invokeAll(List.<Callable<String>>of(() -> GroupContext.current().getName()))
+                                .get(0).get());
+            }
+            finally {
+                checkout.pop();
+            }
+            assertEquals("checkout", paths.submitted());
+            assertEquals("checkout", paths.invoked());
+            assertNull(executor.submit(GroupContext::current).get());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private record Paths(String submitted, String invoked) {}
+
+    @Test
+    public void wrappedCompletableFuture() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var payment = GroupContext.push("payment");
+            CompletableFuture<String> path;
+            try {
+                path = CompletableFuture.supplyAsync(GroupContext.wrapSupplier(() -> GroupContext.current().getPath()),
+                        executor);
+            }
+            finally {
+                payment.pop();
+            }
+            assertEquals("payment", path.join());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void wrappedRunnableRestores() {
+        var outer = GroupContext.push("outer");
+        try {
+            var inner = GroupContext.push("inner");
+            var task = GroupContext.wrap(() -> assertEquals("outer > inner", GroupContext.current().getPath()));
+            inner.pop();
+            task.run();
+            assertSame(outer, GroupContext.current());
+        }
+        finally {
+            outer.pop();
+        }
+    }
+}
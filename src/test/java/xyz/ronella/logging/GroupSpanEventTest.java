@@ -0,0 +1,88 @@
+package xyz.ronella.logging;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupSpanEventTest {
+
+    static List<RecordedEvent> events(final Recording recording, final String name) throws IOException {
+        final var file = Files.createTempFile("logger-plus", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(___event -> name.equals(___event.getEventType().getName()))
+                    .toList();
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void notRecorded() {
+        assertFalse(GroupSpanEvent.isRecorded());
+        var loggerPlus = new LoggerPlus(LoggerFactory.getLogger(GroupSpanEventTest.class));
+        try (var gLOG = loggerPlus.groupLog("notRecorded")) {
+            gLOG.info("Not recorded");
+        }
+        assertSame(loggerPlus.groupLog("notRecorded"), loggerPlus.groupLog("notRecorded"));
+    }
+
+    @Test
+    public void recorded() throws IOException {
+        var loggerPlus = new LoggerPlus(LoggerFactory.getLogger(GroupSpanEventTest.class));
+        try (var recording = new Recording()) {
+            recording.enable(GroupSpanEvent.NAME);
+            recording.start();
+            assertTrue(GroupSpanEvent.isRecorded());
+            try (var gLOG = loggerPlus.groupLog("recorded")) {
+                gLOG.info("Recorded");
+            }
+            try (var gLOG = loggerPlus.groupLog("timed", LoggerPlus.GroupLogger.Mode.TIMED)) {
+                gLOG.info("Recorded");
+            }
+            recording.stop();
+
+            var spans = events(recording, GroupSpanEvent.NAME);
+            assertEquals(2, spans.size());
+            assertEquals("recorded", spans.get(0).getString("groupName"));
+            assertEquals(GroupSpanEventTest.class.getName(), spans.get(0).getString("loggerName"));
+            assertEquals("timed", spans.get(1).getString("groupName"));
+            assertFalse(spans.get(0).getDuration().isNegative());
+            assertNull(spans.get(0).getStackTrace());
+        }
+    }
+
+    @Test
+    public void nestedRecorded() throws IOException {
+        var loggerPlus = new LoggerPlus(LoggerFactory.getLogger(GroupSpanEventTest.class));
+        var opened = loggerPlus.groupLog("nestedRecorded");
+        try (var recording = new Recording()) {
+            recording.enable(GroupSpanEvent.NAME);
+            recording.start();
+            try (var outer = loggerPlus.groupLog("nestedRecorded")) {
+                try (var inner = loggerPlus.groupLog("nestedRecorded")) {
+                    assertNotSame(outer, inner);
+                    assertNotSame(opened, outer);
+                    inner.info("Inner");
+                }
+                outer.info("Outer");
+            }
+            opened.close();
+            recording.stop();
+
+            var spans = events(recording, GroupSpanEvent.NAME);
+            assertEquals(2, spans.size());
+            assertTrue(spans.stream().allMatch(___span -> "nestedRecorded".equals(___span.getString("groupName"))));
+        }
+    }
+}
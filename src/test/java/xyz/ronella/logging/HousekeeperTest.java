@@ -0,0 +1,23 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HousekeeperTest {
+
+    @Test
+    public void failureCounted() throws InterruptedException {
+        var failures = LoggerPlus.getInternalErrorCount();
+        Housekeeper.schedule(() -> {
+            throw new IllegalStateException("Task failed");
+        }, 0, TimeUnit.MILLISECONDS);
+        var ran = new CountDownLatch(1);
+        Housekeeper.schedule(ran::countDown, 0, TimeUnit.MILLISECONDS);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(LoggerPlus.getInternalErrorCount() > failures);
+    }
+}
@@ -0,0 +1,58 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void empty() {
+        var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getP99());
+    }
+
+    @Test
+    public void exactBelowThirtyTwo() {
+        var histogram = new LatencyHistogram();
+        for (var value = 1; value <= 20; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getP50());
+        assertEquals(20, histogram.percentile(100.0));
+        assertEquals(1, histogram.percentile(0.0));
+    }
+
+    @Test
+    public void relativeError() {
+        var histogram = new LatencyHistogram();
+        for (var value = 1_000L; value <= 1_000_000L; value += 1_000L) {
+            histogram.record(value);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000L, histogram.getMax());
+        assertEquals(500_000.0, histogram.getP50(), 500_000.0 / 16);
+        assertEquals(990_000.0, histogram.getP99(), 990_000.0 / 16);
+        assertTrue(histogram.getP999() <= histogram.getMax());
+    }
+
+    @Test
+    public void bucketBounds() {
+        var random = ThreadLocalRandom.current();
+        for (var count = 0; count < 10_000; count++) {
+            var value = random.nextLong(Long.MAX_VALUE);
+            var upperBound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 16);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void invalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().percentile(101.0));
+    }
+}
@@ -0,0 +1,231 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelOverridesTest {
+
+    private static Logger infoLogger(final String name) {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.getName()).thenReturn(name);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    private static Logger traceLogger(final String name) {
+        var logger = infoLogger(name);
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        Mockito.when(logger.isTraceEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @AfterEach
+    public void clear() {
+        LevelOverrides.clear();
+    }
+
+    @Test
+    public void groupLevel() {
+        var logger = traceLogger("groupLevel");
+        var loggerPlus = new LoggerPlus(logger);
+        LevelOverrides.set("groupLevel", Level.INFO);
+        LevelOverrides.set("accept", Level.TRACE);
+        try (var gLOG = loggerPlus.groupLog("accept", false)) {
+            gLOG.trace("Traced");
+        }
+        try (var gLOG = loggerPlus.groupLog("other", false)) {
+            gLOG.trace("Not traced");
+        }
+        loggerPlus.trace("Not traced");
+        Mockito.verify(logger).trace("accept Traced");
+        Mockito.verify(logger, Mockito.never()).trace("other Not traced");
+        Mockito.verify(logger, Mockito.never()).trace("Not traced");
+    }
+
+    @Test
+    public void groupLevelRestrictsOnly() {
+        var logger = infoLogger("groupLevelRestrictsOnly");
+        var loggerPlus = new LoggerPlus(logger);
+        LevelOverrides.set("accept", Level.TRACE);
+        try (var gLOG = loggerPlus.groupLog("accept", false)) {
+            gLOG.trace("Not traced");
+            gLOG.info("Logged");
+        }
+        Mockito.verify(logger, Mockito.never()).trace(Mockito.anyString());
+        Mockito.verify(logger).info("accept Logged");
+    }
+
+    @Test
+    public void groupLevelOnRecordedView() {
+        var logger = infoLogger("groupLevelOnRecordedView");
+        var loggerPlus = new LoggerPlus(logger).recorded(16);
+        LevelOverrides.set("recordedGroup", Level.TRACE);
+        try (var gLOG = loggerPlus.groupLog("recordedGroup", false)) {
+            gLOG.debug("Context");
+        }
+        loggerPlus.error("Failed");
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+        Mockito.verify(logger).error(Mockito.contains("recordedGroup Context"));
+    }
+
+    @Test
+    public void groupLevelOnMappedView() throws IOException {
+        var logger = infoLogger("groupLevelOnMappedView");
+        var directory = Files.createTempDirectory("overrides");
+        try {
+            try (var sink = new MappedFileSink(directory, "mapped", 1024, 10, TimeUnit.MILLISECONDS)) {
+                var loggerPlus = new LoggerPlus(logger).mapped(sink, Level.DEBUG);
+                LevelOverrides.set("mappedGroup", Level.TRACE);
+                try (var gLOG = loggerPlus.groupLog("mappedGroup", false)) {
+                    gLOG.debug("Routed");
+                    gLOG.trace("Below the mapped level");
+                }
+            }
+            var text = Files.readString(directory.resolve("mapped-000001.log"));
+            assertTrue(text.contains("mappedGroup Routed"));
+            assertFalse(text.contains("Below the mapped level"));
+            Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+        }
+        finally {
+            try (var files = Files.list(directory)) {
+                for (var file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void loggerLevelRestrictsOnly() {
+        var logger = infoLogger("loggerLevelRestrictsOnly");
+        var loggerPlus = new LoggerPlus(logger);
+        LevelOverrides.set("loggerLevelRestrictsOnly", Level.DEBUG);
+        loggerPlus.debug("Not logged");
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+    }
+
+    @Test
+    public void groupLevelOff() {
+        var logger = infoLogger("groupLevelOff");
+        var loggerPlus = new LoggerPlus(logger);
+        LevelOverrides.set("quiet", null);
+        try (var gLOG = loggerPlus.groupLog("quiet", false)) {
+            gLOG.error("Dropped");
+        }
+        Mockito.verify(logger, Mockito.never()).error("quiet Dropped");
+    }
+
+    @Test
+    public void loggerLevel() {
+        var logger = infoLogger("xyz.ronella.Service");
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.info("Before");
+        LevelOverrides.set("xyz.ronella.Service", Level.WARN);
+        loggerPlus.info("During");
+        LevelOverrides.remove("xyz.ronella.Service");
+        loggerPlus.info("After");
+        Mockito.verify(logger).info("Before");
+        Mockito.verify(logger, Mockito.never()).info("During");
+        Mockito.verify(logger).info("After");
+    }
+
+    @Test
+    public void pooledGroupRefreshed() {
+        var logger = traceLogger("pooledGroupRefreshed");
+        var loggerPlus = new LoggerPlus(logger);
+        LevelOverrides.set("pooled", Level.INFO);
+        try (var gLOG = loggerPlus.groupLog("pooled", false)) {
+            gLOG.debug("First");
+        }
+        LevelOverrides.set("pooled", Level.DEBUG);
+        try (var gLOG = loggerPlus.groupLog("pooled", false)) {
+            gLOG.debug("Second");
+        }
+        Mockito.verify(logger, Mockito.never()).debug("pooled First");
+        Mockito.verify(logger).debug("pooled Second");
+    }
+
+    @Test
+    public void throttledGroup() {
+        var logger = traceLogger("throttledGroup");
+        var limited = new LoggerPlus(logger).limited(1, TimeUnit.HOURS);
+        LevelOverrides.set("throttled", Level.DEBUG);
+        try (var gLOG = limited.groupLog("throttled", false)) {
+            gLOG.debug("Looping");
+            gLOG.debug("Looping");
+        }
+        Mockito.verify(logger).debug("throttled Looping");
+        assertEquals(1, limited.getSuppressedCount());
+    }
+
+    @Test
+    public void loadProperties() {
+        var properties = new Properties();
+        properties.setProperty("accept", "trace");
+        properties.setProperty("quiet", " OFF ");
+        LevelOverrides.set("replaced", Level.DEBUG);
+        LevelOverrides.load(properties);
+        assertEquals(Level.TRACE, LevelOverrides.get("accept"));
+        assertNull(LevelOverrides.get("quiet"));
+        assertNull(LevelOverrides.get("replaced"));
+        properties.setProperty("invalid", "LOUD");
+        assertThrows(IllegalArgumentException.class, () -> LevelOverrides.load(properties));
+    }
+
+    @Test
+    public void watch() throws IOException, InterruptedException {
+        var directory = Files.createTempDirectory("levels");
+        var file = directory.resolve("levels.properties");
+        Files.writeString(file, "accept=DEBUG");
+        var watcher = LevelOverrides.watch(file);
+        try {
+            assertEquals(Level.DEBUG, LevelOverrides.get("accept"));
+            Files.writeString(file, "accept=TRACE");
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (Level.TRACE != LevelOverrides.get("accept") && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(Level.TRACE, LevelOverrides.get("accept"));
+        }
+        finally {
+            watcher.close();
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void invalidWatchedFileCounted() throws IOException, InterruptedException {
+        var directory = Files.createTempDirectory("levels");
+        var file = directory.resolve("levels.properties");
+        Files.writeString(file, "invalid=DEBUG");
+        var watcher = LevelOverrides.watch(file);
+        try {
+            var failures = LoggerPlus.getInternalErrorCount();
+            Files.writeString(file, "invalid=LOUD");
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (LoggerPlus.getInternalErrorCount() == failures && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(LoggerPlus.getInternalErrorCount() > failures);
+        }
+        finally {
+            watcher.close();
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelScopeTest {
+
+    @Test
+    public void ifDebug() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        var loggerPlus = new LoggerPlus(logger);
+        var exception = new IllegalStateException("failed");
+        loggerPlus.ifDebug(___scope -> {
+            assertEquals(Level.DEBUG, ___scope.getLevel());
+            ___scope.log("first");
+            ___scope.log("second %d", 2);
+            ___scope.log("third", exception);
+        });
+        var order = Mockito.inOrder(logger);
+        order.verify(logger).isDebugEnabled();
+        order.verify(logger).debug("first");
+        order.verify(logger).debug("second 2");
+        order.verify(logger).debug("third", exception);
+        Mockito.verify(logger, Mockito.times(1)).isDebugEnabled();
+    }
+
+    @Test
+    public void disabledBlockNotRun() {
+        var logger = Mockito.mock(Logger.class);
+        var loggerPlus = new LoggerPlus(logger);
+        var runs = new AtomicInteger();
+        loggerPlus.ifTrace(___scope -> runs.incrementAndGet());
+        try (var gLOG = loggerPlus.groupLog("disabledBlockNotRun", false)) {
+            gLOG.ifDebug(___scope -> runs.incrementAndGet());
+        }
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    public void groupLogger() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isTraceEnabled()).thenReturn(true);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var gLOG = loggerPlus.groupLog("groupLogger", false)) {
+            gLOG.ifTrace(___scope -> {
+                ___scope.log("first");
+                ___scope.log("second %s", "value");
+            });
+        }
+        Mockito.verify(logger).trace("groupLogger first");
+        Mockito.verify(logger).trace("groupLogger second value");
+        Mockito.verify(logger, Mockito.times(1)).isTraceEnabled();
+    }
+
+    @Test
+    public void throttledOncePerBlock() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        var limited = new LoggerPlus(logger).limited(1, TimeUnit.HOURS);
+        for (var count = 0; count < 3; count++) {
+            limited.ifDebug(___scope -> {
+                ___scope.log("first");
+                ___scope.log("second");
+            });
+        }
+        Mockito.verify(logger, Mockito.times(1)).debug("first");
+        Mockito.verify(logger, Mockito.times(1)).debug("second");
+    }
+}
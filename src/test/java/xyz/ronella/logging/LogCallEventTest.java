@@ -0,0 +1,52 @@
+package xyz.ronella.logging;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogCallEventTest {
+
+    @Test
+    public void disabledByDefault() throws IOException {
+        var loggerPlus = new LoggerPlus(LoggerFactory.getLogger(LogCallEventTest.class));
+        try (var recording = new Recording()) {
+            recording.start();
+            try (var gLOG = loggerPlus.groupLog("disabledByDefault")) {
+                gLOG.info("Not recorded");
+            }
+            recording.stop();
+            assertTrue(GroupSpanEventTest.events(recording, LogCallEvent.NAME).isEmpty());
+        }
+    }
+
+    @Test
+    public void recorded() throws IOException {
+        var loggerPlus = new LoggerPlus(LoggerFactory.getLogger(LogCallEventTest.class));
+        try (var recording = new Recording()) {
+            recording.enable(LogCallEvent.NAME);
+            recording.start();
+            try (var gLOG = loggerPlus.groupLog("recorded")) {
+                gLOG.info("Message");
+                gLOG.warn("Formatted %s", "value");
+                gLOG.error(() -> "Supplied");
+            }
+            try (var gLOG = loggerPlus.groupLog("buffered", LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+                gLOG.debug("Buffered %s", "value");
+            }
+            recording.stop();
+
+            var calls = GroupSpanEventTest.events(recording, LogCallEvent.NAME);
+            assertEquals(4, calls.size());
+            assertEquals("INFO", calls.get(0).getString("level"));
+            assertEquals("recorded", calls.get(0).getString("groupName"));
+            assertEquals(LogCallEventTest.class.getName(), calls.get(0).getString("loggerName"));
+            assertEquals("WARN", calls.get(1).getString("level"));
+            assertEquals("ERROR", calls.get(2).getString("level"));
+            assertEquals("buffered", calls.get(3).getString("groupName"));
+        }
+    }
+}
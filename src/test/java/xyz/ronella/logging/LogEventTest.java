@@ -0,0 +1,106 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogEventTest {
+
+    private static Logger infoLogger(final LoggingEventBuilder builder) {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        Mockito.when(logger.atLevel(Mockito.any(Level.class))).thenReturn(builder);
+        return logger;
+    }
+
+    @Test
+    public void keyValues() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        var logger = infoLogger(builder);
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.atInfo().kv("orderId", 42L).kv("ms", 1.5).kv("count", 3).kv("ok", true)
+                .kv("name", "order").kv("lazy", () -> "evaluated").log("done");
+        Mockito.verify(logger).atLevel(Level.INFO);
+        Mockito.verify(builder).addKeyValue("orderId", 42L);
+        Mockito.verify(builder).addKeyValue("ms", 1.5);
+        Mockito.verify(builder).addKeyValue("count", 3);
+        Mockito.verify(builder).addKeyValue("ok", true);
+        Mockito.verify(builder).addKeyValue("name", "order");
+        Mockito.verify(builder).addKeyValue("lazy", "evaluated");
+        Mockito.verify(builder).log("done");
+    }
+
+    @Test
+    public void formatted() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        var loggerPlus = new LoggerPlus(infoLogger(builder));
+        loggerPlus.atWarn().kv("id", 7).log("Retrying %s", "order");
+        loggerPlus.atError().kv("id", 8).log(() -> "Failed");
+        Mockito.verify(builder).log("Retrying order");
+        Mockito.verify(builder).log("Failed");
+    }
+
+    @Test
+    public void withoutKeyValues() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        var logger = infoLogger(builder);
+        new LoggerPlus(logger).atInfo().log("plain");
+        Mockito.verify(logger).info("plain");
+        Mockito.verify(logger, Mockito.never()).atLevel(Mockito.any(Level.class));
+    }
+
+    @Test
+    public void disabled() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        var logger = infoLogger(builder);
+        var loggerPlus = new LoggerPlus(logger);
+        var evaluated = new boolean[1];
+        var event = loggerPlus.atDebug();
+        assertSame(LogEvent.DISABLED, event);
+        event.kv("lazy", () -> evaluated[0] = true).kv("id", 1L).log("hidden %s", "value");
+        assertFalse(evaluated[0]);
+        Mockito.verify(logger, Mockito.never()).atLevel(Mockito.any(Level.class));
+    }
+
+    @Test
+    public void throttled() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        var limited = new LoggerPlus(infoLogger(builder)).limited(1, TimeUnit.HOURS);
+        limited.atInfo().kv("id", 1).log("looping");
+        limited.atInfo().kv("id", 2).log("looping");
+        Mockito.verify(builder).addKeyValue("id", 1);
+        Mockito.verify(builder, Mockito.never()).addKeyValue("id", 2);
+        assertEquals(1, limited.getSuppressedCount());
+    }
+
+    @Test
+    public void asynchronous() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        try (var async = new AsyncLoggerPlus(infoLogger(builder))) {
+            async.atInfo().kv("id", 1).log("queued");
+            async.flush();
+            Mockito.verify(builder).addKeyValue("id", 1);
+            Mockito.verify(builder).log("queued");
+        }
+    }
+
+    @Test
+    public void keyValueGroup() {
+        var builder = Mockito.mock(LoggingEventBuilder.class, Mockito.RETURNS_SELF);
+        var logger = infoLogger(builder);
+        try (var gLOG = new LoggerPlus(logger).groupLog("checkout", LoggerPlus.GroupLogger.Mode.KEY_VALUE)) {
+            gLOG.info("Paid %s", "order");
+        }
+        Mockito.verify(builder).addKeyValue(LoggerPlus.GroupLogger.GROUP_KEY, "checkout");
+        Mockito.verify(builder).log("Paid order");
+        Mockito.verify(logger, Mockito.never()).info(Mockito.anyString());
+    }
+}
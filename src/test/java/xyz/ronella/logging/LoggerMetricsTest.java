@@ -0,0 +1,141 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoggerMetricsTest {
+
+    private static Logger infoLogger(final String name) {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.getName()).thenReturn(name);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void disabledByDefault() {
+        var loggerPlus = new LoggerPlus(infoLogger("disabledByDefault"));
+        loggerPlus.info("Not counted");
+        assertNull(loggerPlus.getMetrics());
+    }
+
+    @Test
+    public void counted() {
+        var loggerPlus = new LoggerPlus(infoLogger("counted"));
+        var metrics = loggerPlus.enableMetrics();
+        try {
+            loggerPlus.info("Hello");
+            loggerPlus.info("Hello %s", "world");
+            loggerPlus.debug("Hidden %s", "value");
+            loggerPlus.error(() -> "Failed");
+
+            var snapshot = metrics.snapshot();
+            var info = snapshot.get(Level.INFO);
+            assertEquals(2, info.requested());
+            assertEquals(2, info.emitted());
+            assertEquals(0, info.suppressed());
+            assertEquals("Hello".length() + "Hello world".length(), info.characters());
+            assertTrue(info.formatNanos() > 0);
+            assertTrue(info.backendNanos() > 0);
+            var debug = snapshot.get(Level.DEBUG);
+            assertEquals(1, debug.requested());
+            assertEquals(1, debug.suppressed());
+            assertEquals(0, debug.formatNanos());
+            assertEquals(4, metrics.getRequestedCount());
+            assertEquals(3, metrics.getEmittedCount());
+            assertEquals(1L, metrics.getEmittedCountByLevel().get("ERROR"));
+
+            metrics.reset();
+            assertEquals(0, metrics.getRequestedCount());
+        }
+        finally {
+            loggerPlus.disableMetrics();
+        }
+        loggerPlus.info("Not counted");
+        assertEquals(0, metrics.getRequestedCount());
+    }
+
+    @Test
+    public void sharedWithDerived() {
+        var loggerPlus = new LoggerPlus(infoLogger("sharedWithDerived"));
+        var limited = loggerPlus.limited(1, TimeUnit.HOURS);
+        var metrics = limited.enableMetrics();
+        try {
+            assertSame(metrics, loggerPlus.getMetrics());
+            try (var gLOG = limited.groupLog("sharedWithDerived", false)) {
+                gLOG.warn("Looping %d", 1);
+                gLOG.warn("Looping %d", 2);
+            }
+            var warn = metrics.snapshot().get(Level.WARN);
+            assertEquals(2, warn.requested());
+            assertEquals(1, warn.emitted());
+            assertEquals(0, warn.suppressed());
+            assertTrue(warn.formatNanos() > 0);
+        }
+        finally {
+            loggerPlus.disableMetrics();
+        }
+    }
+
+    @Test
+    public void registrationFailureLogged() throws Exception {
+        var logger = infoLogger("registrationFailureLogged");
+        var loggerPlus = new LoggerPlus(logger);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var name = new ObjectName("xyz.ronella.logging:type=LoggerPlus,name=\"registrationFailureLogged\",id="
+                + Integer.toHexString(System.identityHashCode(loggerPlus)));
+        server.registerMBean(new LoggerMetrics("taken"), name);
+        try {
+            assertNotNull(loggerPlus.enableMetrics());
+            Mockito.verify(logger).warn(Mockito.startsWith("Cannot register"), Mockito.any(Throwable.class));
+        }
+        finally {
+            server.unregisterMBean(name);
+        }
+        loggerPlus.disableMetrics();
+        Mockito.verify(logger, Mockito.never()).warn(Mockito.startsWith("Cannot unregister"),
+                Mockito.any(Throwable.class));
+    }
+
+    @Test
+    public void unregistrationFailureLogged() throws Exception {
+        var logger = infoLogger("unregistrationFailureLogged");
+        var loggerPlus = new LoggerPlus(logger);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        loggerPlus.enableMetrics();
+        var pattern = new ObjectName("xyz.ronella.logging:type=LoggerPlus,name=\"unregistrationFailureLogged\",*");
+        server.unregisterMBean(server.queryNames(pattern, null).iterator().next());
+        loggerPlus.disableMetrics();
+        Mockito.verify(logger).warn(Mockito.startsWith("Cannot unregister"), Mockito.any(Throwable.class));
+    }
+
+    @Test
+    public void registered() throws Exception {
+        var loggerPlus = new LoggerPlus(infoLogger("registered"));
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var pattern = new ObjectName("xyz.ronella.logging:type=LoggerPlus,name=\"registered\",*");
+        loggerPlus.enableMetrics();
+        try {
+            loggerPlus.info("Hello");
+            var names = server.queryNames(pattern, null);
+            assertEquals(1, names.size());
+            var name = names.iterator().next();
+            assertEquals(1L, server.getAttribute(name, "EmittedCount"));
+            assertEquals("registered", server.getAttribute(name, "LoggerName"));
+        }
+        finally {
+            loggerPlus.disableMetrics();
+        }
+        assertTrue(server.queryNames(pattern, null).isEmpty());
+    }
+}
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,11 +44,12 @@ public class LoggerPlusTest {
 
     @Test
     public void nonMethodDebugF() {
-        var mockedLogger = Mockito.spy(LOGGER_PLUS);
+        var logger = Mockito.spy(LOGGER);
+        var mockedLogger = Mockito.spy(new LoggerPlus(logger));
         var format = "Debug Hello %s";
         var value = "world";
         mockedLogger.debug(format, value);
-        Mockito.verify(mockedLogger, Mockito.times(1)).debug(Mockito.anyString());
+        Mockito.verify(logger, Mockito.times(1)).debug("Debug Hello world");
     }
 
     @Test
@@ -75,9 +80,10 @@ public class LoggerPlusTest {
 
     @Test
     public void nonMethodInfoF() {
-        var mockedLogger = Mockito.spy(LOGGER_PLUS);
+        var logger = Mockito.spy(LOGGER);
+        var mockedLogger = Mockito.spy(new LoggerPlus(logger));
         mockedLogger.info("Info Hello %s", "world");
-        Mockito.verify(mockedLogger, Mockito.times(1)).info(Mockito.anyString());
+        Mockito.verify(logger, Mockito.times(1)).info("Info Hello world");
     }
 
     @Test
@@ -108,9 +114,10 @@ public class LoggerPlusTest {
 
     @Test
     public void nonMethodWarnF() {
-        var mockedLogger = Mockito.spy(LOGGER_PLUS);
+        var logger = Mockito.spy(LOGGER);
+        var mockedLogger = Mockito.spy(new LoggerPlus(logger));
         mockedLogger.warn("Warn Hello %s", "world");
-        Mockito.verify(mockedLogger, Mockito.times(1)).warn(Mockito.anyString());
+        Mockito.verify(logger, Mockito.times(1)).warn("Warn Hello world");
     }
 
     @Test
@@ -141,9 +148,10 @@ public class LoggerPlusTest {
 
     @Test
     public void nonMethodErrorF() {
-        var mockedLogger = Mockito.spy(LOGGER_PLUS);
+        var logger = Mockito.spy(LOGGER);
+        var mockedLogger = Mockito.spy(new LoggerPlus(logger));
         mockedLogger.error("Error Hello %s", "world");
-        Mockito.verify(mockedLogger, Mockito.times(1)).error(Mockito.anyString());
+        Mockito.verify(logger, Mockito.times(1)).error("Error Hello world");
     }
 
     @Test
@@ -174,9 +182,10 @@ public class LoggerPlusTest {
 
     @Test
     public void nonMethodTraceF() {
-        var mockedLogger = Mockito.spy(LOGGER_PLUS);
+        var logger = Mockito.spy(LOGGER);
+        var mockedLogger = Mockito.spy(new LoggerPlus(logger));
         mockedLogger.trace("Trace Hello %s", "world");
-        Mockito.verify(mockedLogger, Mockito.times(1)).trace(Mockito.anyString());
+        Mockito.verify(logger, Mockito.times(1)).trace("Trace Hello world");
     }
 
     @Test
@@ -347,4 +356,299 @@ public class LoggerPlusTest {
         Mockito.verify(logger, Mockito.times(1)).trace(message);
     }
 
+    @Test
+    public void disabledFormattedNotRendered() {
+        var logger = Mockito.mock(Logger.class);
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.debug("Debug %s %s", "Hello", "world");
+        loggerPlus.info("Info %d", 1);
+        loggerPlus.warn("Warn %s", 2L);
+        loggerPlus.error("Error %.1f", 3.0);
+        loggerPlus.trace("Trace %s", true);
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+        Mockito.verify(logger, Mockito.never()).info(Mockito.anyString());
+        Mockito.verify(logger, Mockito.never()).warn(Mockito.anyString());
+        Mockito.verify(logger, Mockito.never()).error(Mockito.anyString());
+        Mockito.verify(logger, Mockito.never()).trace(Mockito.anyString());
+    }
+
+    @Test
+    public void disabledGroupFormattedNotRendered() {
+        var logger = Mockito.mock(Logger.class);
+        try (var mLOG = Mockito.spy(new LoggerPlus(logger).groupLog("disabledGroupFormattedNotRendered"))) {
+            mLOG.info("Info %s %s %s %s", 1, 2, 3, 4);
+            mLOG.trace("Trace %s", 'c');
+            Mockito.verify(mLOG, Mockito.never()).info(Mockito.anyString());
+            Mockito.verify(mLOG, Mockito.never()).trace(Mockito.anyString());
+        }
+    }
+
+    @Test
+    public void primitiveFormatted() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.info("int %d", 1);
+        loggerPlus.info("long %d", 2L);
+        loggerPlus.info("double %.2f", 3.0);
+        loggerPlus.info("float %s", 1.1f);
+        loggerPlus.info("char %s", 'c');
+        loggerPlus.info("boolean %s", true);
+        Mockito.verify(logger).info("int 1");
+        Mockito.verify(logger).info("long 2");
+        Mockito.verify(logger).info("double 3.00");
+        Mockito.verify(logger).info("float 1.1");
+        Mockito.verify(logger).info("char c");
+        Mockito.verify(logger).info("boolean true");
+    }
+
+    @Test
+    public void fixedArityFormatted() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.warn("%s", "a");
+        loggerPlus.warn("%s%s", "a", "b");
+        loggerPlus.warn("%s%s%s", "a", "b", "c");
+        loggerPlus.warn("%s%s%s%s", "a", "b", "c", "d");
+        loggerPlus.warn("%s%s%s%s%s", "a", "b", "c", "d", "e");
+        Mockito.verify(logger).warn("a");
+        Mockito.verify(logger).warn("ab");
+        Mockito.verify(logger).warn("abc");
+        Mockito.verify(logger).warn("abcd");
+        Mockito.verify(logger).warn("abcde");
+    }
+
+    @Test
+    public void groupMessagePrefix() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var gLOG = loggerPlus.groupLog("groupMessagePrefix")) {
+            gLOG.info("Plain");
+            gLOG.info(() -> "Supplied");
+            gLOG.info("Formatted %s", "message");
+        }
+        var order = Mockito.inOrder(logger);
+        order.verify(logger).debug("groupMessagePrefix [BEGIN]");
+        order.verify(logger).info("groupMessagePrefix Plain");
+        order.verify(logger).info("groupMessagePrefix Supplied");
+        order.verify(logger).info("groupMessagePrefix Formatted message");
+        order.verify(logger).debug("groupMessagePrefix [END]");
+    }
+
+    @Test
+    public void disabledGroupNotRendered() {
+        var logger = Mockito.mock(Logger.class);
+        var loggerPlus = Mockito.spy(new LoggerPlus(logger));
+        try (var gLOG = loggerPlus.groupLog("disabledGroupNotRendered")) {
+            gLOG.debug("Plain");
+            gLOG.debug(() -> fail("Must not be evaluated"));
+        }
+        Mockito.verify(loggerPlus, Mockito.never()).debug(Mockito.anyString());
+    }
+
+    @Test
+    public void groupLogReused() {
+        assertSame(LOGGER_PLUS.groupLog("groupLogReused"), LOGGER_PLUS.groupLog("groupLogReused"));
+        assertNotSame(LOGGER_PLUS.groupLog("groupLogReused"), LOGGER_PLUS.groupLog("groupLogReused", false));
+    }
+
+    @Test
+    public void bufferedGroup() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        var separator = System.lineSeparator();
+        try (var gLOG = loggerPlus.groupLog("bufferedGroup", LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+            gLOG.info("First");
+            gLOG.warn("Second %s", "line");
+            Mockito.verify(logger, Mockito.never()).warn(Mockito.anyString());
+        }
+        Mockito.verify(logger).warn("bufferedGroup [BEGIN]" + separator + "bufferedGroup First" + separator
+                + "bufferedGroup Second line" + separator + "bufferedGroup [END]");
+        Mockito.verify(logger, Mockito.never()).info(Mockito.anyString());
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+    }
+
+    @Test
+    public void bufferedGroupLimit() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var gLOG = loggerPlus.groupLog("bufferedGroupLimit", 30, LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+            gLOG.info("Flushed early");
+            Mockito.verify(logger).info("bufferedGroupLimit [BEGIN]" + System.lineSeparator()
+                    + "bufferedGroupLimit Flushed early");
+            gLOG.info("Last");
+        }
+        Mockito.verify(logger).info("bufferedGroupLimit Last" + System.lineSeparator() + "bufferedGroupLimit [END]");
+    }
+
+    @Test
+    public void invalidBufferLimit() {
+        var loggerPlus = new LoggerPlus(LOGGER);
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.groupLog("invalidBufferLimit", 0,
+                LoggerPlus.GroupLogger.Mode.BUFFERED));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.groupLog("invalidBufferLimit", -1,
+                LoggerPlus.GroupLogger.Mode.BUFFERED));
+        assertThrows(IllegalArgumentException.class, () -> new LoggerPlus.GroupLogger("invalidBufferLimit",
+                loggerPlus, true, -1, LoggerPlus.GroupLogger.Mode.BUFFERED));
+    }
+
+    @Test
+    public void bufferedGroupException() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        assertThrows(IllegalStateException.class, () -> {
+            try (var gLOG = loggerPlus.groupLog("bufferedGroupException", LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+                gLOG.error("Failing");
+                throw new IllegalStateException();
+            }
+        });
+        Mockito.verify(logger).error(Mockito.contains("bufferedGroupException Failing"));
+    }
+
+    @Test
+    public void bufferedGroupDisabled() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var gLOG = loggerPlus.groupLog("bufferedGroupDisabled", LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+            gLOG.debug("Hidden");
+            gLOG.info("Shown");
+        }
+        Mockito.verify(logger).info("bufferedGroupDisabled Shown");
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+    }
+
+    @Test
+    public void timedGroup() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        assertNull(loggerPlus.getGroupLatency("timedGroup"));
+        for (var count = 0; count < 3; count++) {
+            try (var gLOG = loggerPlus.groupLog("timedGroup", LoggerPlus.GroupLogger.Mode.TIMED)) {
+                gLOG.info("Working");
+            }
+        }
+        Mockito.verify(logger, Mockito.times(3)).debug(Mockito.matches("timedGroup \\[END\\] \\d+\\.\\d{3} ms"));
+        assertEquals(3, loggerPlus.getGroupLatency("timedGroup").getCount());
+        assertSame(loggerPlus.getGroupLatency("timedGroup"), loggerPlus.limited(1, TimeUnit.SECONDS)
+                .getGroupLatency("timedGroup"));
+    }
+
+    @Test
+    public void timedBufferedGroup() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var gLOG = loggerPlus.groupLog("timedBufferedGroup", LoggerPlus.GroupLogger.Mode.BUFFERED,
+                LoggerPlus.GroupLogger.Mode.TIMED)) {
+            gLOG.info("Working");
+        }
+        Mockito.verify(logger).info(Mockito.matches("(?s).*timedBufferedGroup \\[END\\] \\d+\\.\\d{3} ms"));
+        assertEquals(1, loggerPlus.getGroupLatency("timedBufferedGroup").getCount());
+    }
+
+    @Test
+    public void timedGroupDisabled() {
+        var logger = Mockito.mock(Logger.class);
+        var loggerPlus = new LoggerPlus(logger);
+        try (var gLOG = loggerPlus.groupLog("timedGroupDisabled", LoggerPlus.GroupLogger.Mode.TIMED)) {
+            gLOG.debug("Hidden");
+        }
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+        assertEquals(1, loggerPlus.getGroupLatency("timedGroupDisabled").getCount());
+    }
+
+    @Test
+    public void registryHoldsWeakly() throws InterruptedException {
+        var reference = new WeakReference<>(LoggerPlus.of("registryHoldsWeakly"));
+        for (var attempt = 0; attempt < 100 && null!=reference.get(); attempt++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertNull(reference.get());
+        assertTrue(LoggerPlus.getRegistered().stream()
+                .noneMatch(___loggerPlus -> "registryHoldsWeakly".equals(___loggerPlus.getName())));
+        assertEquals("registryHoldsWeakly", LoggerPlus.of("registryHoldsWeakly").getName());
+    }
+
+    @Test
+    public void registry() {
+        var loggerPlus = LoggerPlus.of(LoggerPlusTest.class);
+        assertSame(loggerPlus, LoggerPlus.of(LoggerPlusTest.class.getName()));
+        assertEquals(LoggerPlusTest.class.getName(), loggerPlus.getName());
+        assertTrue(LoggerPlus.getRegistered().contains(loggerPlus));
+        assertThrows(UnsupportedOperationException.class, () -> LoggerPlus.getRegistered().clear());
+        assertSame(LoggerFactory.getLogger(LoggerPlusTest.class.getName()), loggerPlus.getLogger());
+        assertSame(loggerPlus.getLogger(), loggerPlus.limited(1, TimeUnit.SECONDS).getLogger());
+        assertThrows(IllegalArgumentException.class, () -> LoggerPlus.of((Class<?>) null));
+        assertThrows(IllegalArgumentException.class, () -> LoggerPlus.of((String) null));
+    }
+
+    @Test
+    public void registryLevelOverride() {
+        var name = "registryLevelOverride";
+        var loggerPlus = LoggerPlus.of(name);
+        var metrics = loggerPlus.enableMetrics();
+        try {
+            LevelOverrides.set(name, Level.ERROR);
+            loggerPlus.info("Hidden");
+            loggerPlus.error("Shown");
+            assertEquals(1, metrics.snapshot().get(Level.INFO).suppressed());
+            assertEquals(1, metrics.snapshot().get(Level.ERROR).emitted());
+        } finally {
+            LevelOverrides.remove(name);
+            loggerPlus.disableMetrics();
+        }
+    }
+
+    @Test
+    public void throwable() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        var exception = new IllegalStateException("failed");
+        loggerPlus.error("Failed", exception);
+        loggerPlus.warn(() -> "Supplied", exception);
+        loggerPlus.info("Retry %d of %d", 1, 3, exception);
+        loggerPlus.error("Consumed %s", exception);
+        Mockito.verify(logger).error("Failed", exception);
+        Mockito.verify(logger).warn("Supplied", exception);
+        Mockito.verify(logger).info("Retry 1 of 3", exception);
+        Mockito.verify(logger).error("Consumed " + exception);
+
+        var disabled = Mockito.mock(Logger.class);
+        new LoggerPlus(disabled).trace("Hidden", exception);
+        Mockito.verify(disabled, Mockito.never()).trace(Mockito.anyString(), Mockito.any(Throwable.class));
+    }
+
+    @Test
+    public void groupThrowable() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        var exception = new IllegalStateException("failed");
+        try (var gLOG = loggerPlus.groupLog("groupThrowable")) {
+            gLOG.error("Failed", exception);
+            gLOG.warn(() -> "Supplied", exception);
+            gLOG.info("Retry %d", 1, exception);
+        }
+        Mockito.verify(logger).error("groupThrowable Failed", exception);
+        Mockito.verify(logger).warn("groupThrowable Supplied", exception);
+        Mockito.verify(logger).info("groupThrowable Retry 1", exception);
+    }
+
+    @Test
+    public void bufferedGroupThrowable() {
+        var logger = Mockito.spy(LOGGER);
+        var loggerPlus = new LoggerPlus(logger);
+        var first = new IllegalStateException("first");
+        var second = new IllegalStateException("second");
+        try (var gLOG = new LoggerPlus.GroupLogger("bufferedGroupThrowable", loggerPlus, false,
+                LoggerPlus.GroupLogger.DEFAULT_BUFFER_LIMIT, LoggerPlus.GroupLogger.Mode.BUFFERED)) {
+            gLOG.info("Started");
+            gLOG.error("First", first);
+            gLOG.error("Second %s", "try", second);
+        }
+        var separator = System.lineSeparator();
+        Mockito.verify(logger).error("bufferedGroupThrowable Started" + separator + "bufferedGroupThrowable First",
+                first);
+        Mockito.verify(logger).error("bufferedGroupThrowable Second try", second);
+    }
+
 }
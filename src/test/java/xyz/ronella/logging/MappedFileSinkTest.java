@@ -0,0 +1,169 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedFileSinkTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("mapped");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (var files = Files.walk(directory)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private List<String> lines() throws IOException {
+        var lines = new ArrayList<String>();
+        try (var files = Files.list(directory)) {
+            for (var file : files.sorted().toList()) {
+                var text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                for (var line : text.replace("\0", "").split("\n")) {
+                    if (!line.isEmpty()) {
+                        lines.add(line);
+                    }
+                }
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    public void append() throws IOException {
+        try (var sink = new MappedFileSink(directory, "append", 1024, 10, TimeUnit.MILLISECONDS)) {
+            assertTrue(sink.append(Level.DEBUG, "Hello world"));
+        }
+        var lines = lines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).matches("\\d+ DEBUG \\[.+] Hello world"), lines.get(0));
+    }
+
+    @Test
+    public void reopened() throws IOException {
+        try (var sink = new MappedFileSink(directory, "reopened", 1024, 10, TimeUnit.MILLISECONDS)) {
+            assertTrue(sink.append(Level.DEBUG, "First run"));
+        }
+        try (var sink = new MappedFileSink(directory, "reopened", 1024, 10, TimeUnit.MILLISECONDS)) {
+            assertTrue(sink.append(Level.DEBUG, "Second run"));
+        }
+        assertTrue(Files.exists(directory.resolve("reopened-000001.log")));
+        assertTrue(Files.exists(directory.resolve("reopened-000002.log")));
+        var lines = lines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith("First run"), lines.get(0));
+        assertTrue(lines.get(1).endsWith("Second run"), lines.get(1));
+    }
+
+    @Test
+    public void rollover() throws IOException, InterruptedException {
+        var threads = new Thread[4];
+        try (var sink = new MappedFileSink(directory, "rollover", 256, 10, TimeUnit.MILLISECONDS)) {
+            for (var thread = 0; thread < threads.length; thread++) {
+                var id = thread;
+                threads[thread] = new Thread(() -> {
+                    for (var count = 0; count < 500; count++) {
+                        sink.append(("thread " + id + " event " + count + "\n").getBytes(StandardCharsets.UTF_8));
+                    }
+                });
+                threads[thread].start();
+            }
+            for (var thread : threads) {
+                thread.join();
+            }
+            assertEquals(0, sink.getDroppedCount());
+        }
+        var lines = lines();
+        assertEquals(2000, lines.size());
+        assertEquals(2000, lines.stream().distinct().count());
+        try (var files = Files.list(directory)) {
+            assertTrue(files.count() > 1);
+        }
+        assertTrue(Files.exists(directory.resolve("rollover-000001.log")));
+    }
+
+    @Test
+    public void closed() throws IOException {
+        var sink = new MappedFileSink(directory, "closed", 1024, 10, TimeUnit.MILLISECONDS);
+        sink.close();
+        assertFalse(sink.append(Level.TRACE, "Dropped"));
+        assertEquals(1, sink.getDroppedCount());
+    }
+
+    @Test
+    public void oversizedRejected() throws IOException {
+        try (var sink = new MappedFileSink(directory, "oversized", 64, 10, TimeUnit.MILLISECONDS)) {
+            assertFalse(sink.append(new byte[65]));
+            assertTrue(sink.append("fits\n".getBytes(StandardCharsets.UTF_8)));
+            assertEquals(1, sink.getDroppedCount());
+        }
+        assertEquals(List.of("fits"), lines());
+    }
+
+    @Test
+    public void reopenedAfterFailedRoll() throws IOException, InterruptedException {
+        var segments = Files.createDirectory(directory.resolve("segments"));
+        var event = "0123456789012345678901234567890123456789\n".getBytes(StandardCharsets.UTF_8);
+        var failures = LoggerPlus.getInternalErrorCount();
+        try (var sink = new MappedFileSink(segments, "failing", 64, 10, TimeUnit.MILLISECONDS)) {
+            assertTrue(sink.append(event));
+            Files.delete(segments.resolve("failing-000001.log"));
+            Files.delete(segments);
+            assertFalse(sink.append(event));
+            assertEquals(1, sink.getDroppedCount());
+            assertTrue(LoggerPlus.getInternalErrorCount() > failures);
+
+            Files.createDirectory(segments);
+            var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!sink.append(event) && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(Files.exists(segments.resolve("failing-000002.log")));
+        }
+    }
+
+    @Test
+    public void routed() throws IOException {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isInfoEnabled()).thenReturn(true);
+        try (var sink = new MappedFileSink(directory, "routed", 1024, 10, TimeUnit.MILLISECONDS)) {
+            var loggerPlus = new LoggerPlus(logger).mapped(sink, Level.DEBUG);
+            loggerPlus.debug("Mapped %d", 1);
+            loggerPlus.trace("Disabled");
+            loggerPlus.info("Logged");
+            try (var gLOG = loggerPlus.groupLog("routed", false)) {
+                gLOG.debug("Grouped");
+            }
+            loggerPlus.atDebug().kv("id", 7).log("Pairs");
+        }
+        Mockito.verify(logger).info("Logged");
+        Mockito.verify(logger, Mockito.never()).debug(Mockito.anyString());
+        var lines = lines();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).endsWith("DEBUG [" + Thread.currentThread().getName() + "] Mapped 1"));
+        assertTrue(lines.get(1).endsWith("routed Grouped"));
+        assertTrue(lines.get(2).endsWith("Pairs id=7"));
+    }
+}
@@ -0,0 +1,153 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageTemplateTest {
+
+    private static void assertSameAsStringFormat(final String format, final Object ... values) {
+        assertEquals(String.format(format, values), MessageTemplate.format(format, values));
+    }
+
+    @Test
+    public void stringConversion() {
+        assertSameAsStringFormat("Hello %s", "world");
+        assertSameAsStringFormat("%s and %s", null, List.of(1, 2));
+        assertSameAsStringFormat("%s", 'c');
+    }
+
+    @Test
+    public void decimalConversion() {
+        assertSameAsStringFormat("%d %d %d %d", 1, -2L, (short) 3, (byte) -4);
+        assertSameAsStringFormat("%d", new BigInteger("-123456789012345678901234567890"));
+        assertSameAsStringFormat("%d", Long.MIN_VALUE);
+    }
+
+    @Test
+    public void hexConversion() {
+        assertSameAsStringFormat("%x %x %x %x", 255, -1, (short) -1, (byte) -1);
+        assertSameAsStringFormat("%x", Long.MIN_VALUE);
+    }
+
+    @Test
+    public void fixedConversion() {
+        final var random = new Random(2019);
+        for (var count = 0; count < 10_000; count++) {
+            final var value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 5);
+            assertSameAsStringFormat("%.0f %.2f %.5f %f", value, value, value, (float) value);
+        }
+        assertSameAsStringFormat("%.2f %.1f %.1f", 0.125, 0.15, 0.25);
+        assertSameAsStringFormat("%.2f %.2f", -0.0, Double.NaN);
+        assertSameAsStringFormat("%.2f", 1e300);
+    }
+
+    @Test
+    public void literalConversions() {
+        assertSameAsStringFormat("100%% done%n");
+        assertSameAsStringFormat("No conversion", "ignored");
+    }
+
+    @Test
+    public void unsupportedConversions() {
+        assertSameAsStringFormat("%5d|%-5s|%S|%2$s %1$s|%08.3f|%c", 1, "a", "b", 1.5, 'd');
+        assertSameAsStringFormat("%tY", new java.util.Date(0));
+    }
+
+    @Test
+    public void formattable() {
+        final Formattable formattable = (formatter, flags, width, precision) -> formatter.format("formatted");
+        assertSameAsStringFormat("%s", formattable);
+    }
+
+    @Test
+    public void missingArgument() {
+        assertThrows(MissingFormatArgumentException.class, () -> MessageTemplate.format("%s %s", "a"));
+        assertThrows(NullPointerException.class, () -> MessageTemplate.format(null, "a"));
+    }
+
+    @Test
+    public void anchors() {
+        assertEquals("Hello world", MessageTemplate.format("Hello {}", "world"));
+        assertEquals("1 and 2", MessageTemplate.format("{} and {}", 1, 2));
+        assertEquals("1 and {}", MessageTemplate.format("{} and {}", 1));
+        assertEquals("[1, 2] [a]", MessageTemplate.format("{} {}", new int[] {1, 2}, new String[] {"a"}));
+    }
+
+    @Test
+    public void escapedAnchors() {
+        assertEquals("Set {} to 1", MessageTemplate.format("Set \\{} to {}", 1));
+        assertEquals("C:\\1", MessageTemplate.format("C:\\\\{}", 1));
+    }
+
+    @Test
+    public void prefix() {
+        assertEquals("group Hello world", MessageTemplate.formatPrefixed("group ", "Hello %s", "world"));
+        assertEquals("group     1", MessageTemplate.formatPrefixed("group ", "%5d", 1));
+    }
+
+    @Test
+    public void reentrantRendering() {
+        final var nested = new Object() {
+            @Override
+            public String toString() {
+                return MessageTemplate.format("inner %s", "value");
+            }
+        };
+        assertEquals("outer inner value", MessageTemplate.format("outer %s", nested));
+    }
+
+    @Test
+    public void compiledOnce() {
+        final var format = "compiledOnce %s";
+        assertSame(MessageTemplate.compile(format), MessageTemplate.compile(format));
+        assertEquals(1, MessageTemplate.compile(format).placeholders());
+        assertEquals(-1, MessageTemplate.compile("%5s").placeholders());
+    }
+
+    @Test
+    public void boundedCache() {
+        for (var count = 0; count < MessageTemplate.CACHE_LIMIT * 2; count++) {
+            MessageTemplate.format("boundedCache " + count + " %s", count);
+        }
+        assertTrue(MessageTemplate.cacheSize() <= MessageTemplate.CACHE_LIMIT);
+    }
+
+    @Test
+    public void usedTemplatesKept() {
+        var used = MessageTemplate.compile("usedTemplatesKept %s");
+        for (var count = 0; count < MessageTemplate.CACHE_LIMIT * 2; count++) {
+            MessageTemplate.format("usedTemplatesKept " + count + " %s", count);
+            assertSame(used, MessageTemplate.compile("usedTemplatesKept %s"));
+        }
+        assertTrue(MessageTemplate.cacheSize() <= MessageTemplate.CACHE_LIMIT);
+    }
+
+    @Test
+    public void literalNotCached() {
+        var size = MessageTemplate.cacheSize();
+        for (var count = 0; count < 10; count++) {
+            assertEquals("literalNotCached " + count, MessageTemplate.format("literalNotCached " + count));
+        }
+        assertEquals("literalNotCached {", MessageTemplate.format("literalNotCached {", "value"));
+        assertEquals(size, MessageTemplate.cacheSize());
+    }
+
+    @Test
+    public void trailingThrowable() {
+        var exception = new IllegalStateException("failed");
+        assertSame(exception, MessageTemplate.trailingThrowable("Failed %s", "id", exception));
+        assertSame(exception, MessageTemplate.trailingThrowable("Failed {}", "id", exception));
+        assertSame(exception, MessageTemplate.trailingThrowable("Failed", exception));
+        assertNull(MessageTemplate.trailingThrowable("Failed %s", exception));
+        assertNull(MessageTemplate.trailingThrowable("Failed %s", "id"));
+        assertNull(MessageTemplate.trailingThrowable("Failed %2$s", "id", exception));
+        assertNull(MessageTemplate.trailingThrowable("Failed"));
+    }
+}
@@ -0,0 +1,79 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StackTraceRendererTest {
+
+    private static String printStackTrace(final Throwable throwable) {
+        var writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private static Exception nested(final int depth) {
+        if (depth == 0) {
+            return new IllegalStateException("Deepest");
+        }
+        return nested(depth - 1);
+    }
+
+    @Test
+    public void sameAsPrintStackTrace() {
+        var exception = new RuntimeException("Outer", nested(10));
+        exception.addSuppressed(new IllegalArgumentException("Suppressed", new NullPointerException()));
+        assertEquals(printStackTrace(exception), StackTraceRenderer.DEFAULT.render(exception));
+    }
+
+    @Test
+    public void circularReference() {
+        var first = new RuntimeException("First");
+        var second = new RuntimeException("Second", first);
+        first.initCause(second);
+        var rendered = StackTraceRenderer.DEFAULT.render(second);
+        assertEquals(printStackTrace(second), rendered);
+        assertTrue(rendered.contains("[CIRCULAR REFERENCE: "));
+    }
+
+    @Test
+    public void maxDepth() {
+        var exception = nested(20);
+        var rendered = new StackTraceRenderer(3).render(exception);
+        assertEquals(3, rendered.lines().filter(___line -> ___line.startsWith("\tat ")).count());
+        assertTrue(rendered.contains("\t... " + (exception.getStackTrace().length - 3) + " more"));
+    }
+
+    public static void fail() {
+        throw new IllegalStateException("Reflected");
+    }
+
+    @Test
+    public void collapsedPackages() throws NoSuchMethodException, IllegalAccessException {
+        try {
+            getClass().getMethod("fail").invoke(null);
+        } catch (InvocationTargetException exception) {
+            var rendered = new StackTraceRenderer(Integer.MAX_VALUE, "jdk.internal.reflect.", "java.lang.reflect.")
+                    .render(exception.getCause());
+            assertFalse(rendered.contains("jdk.internal.reflect."));
+            assertTrue(rendered.contains(" collapsed frames"));
+        }
+    }
+
+    @Test
+    public void nullThrowable() {
+        assertNull(StackTraceRenderer.DEFAULT.render(null));
+    }
+
+    @Test
+    public void throwableOverload() {
+        var error = new AssertionError("Error");
+        assertEquals(printStackTrace(error), new LoggerPlus(Mockito.mock(Logger.class)).getStackTraceAsString(error));
+    }
+}
@@ -0,0 +1,134 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThrottledLoggerPlusTest {
+
+    private static Logger enabledLogger() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isWarnEnabled()).thenReturn(true);
+        Mockito.when(logger.isDebugEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void limitedPerCallSite() {
+        var logger = enabledLogger();
+        var limited = new LoggerPlus(logger).limited(3, TimeUnit.HOURS);
+        for (var count = 0; count < 10; count++) {
+            limited.warn("Looping");
+        }
+        limited.warn("Other site");
+        Mockito.verify(logger, Mockito.times(3)).warn("Looping");
+        Mockito.verify(logger).warn("Other site");
+        assertEquals(7, limited.getSuppressedCount());
+    }
+
+    @Test
+    public void limitedByKey() {
+        var logger = enabledLogger();
+        var limited = new LoggerPlus(logger).limited("shared", 2, TimeUnit.HOURS);
+        limited.warn("First");
+        limited.warn("Second");
+        limited.warn("Third");
+        Mockito.verify(logger, Mockito.never()).warn("Third");
+        assertEquals(1, limited.getSuppressedCount());
+    }
+
+    @Test
+    public void limitKeptPerKey() {
+        var logger = enabledLogger();
+        var loggerPlus = new LoggerPlus(logger);
+        loggerPlus.limited("a", 1, TimeUnit.HOURS).warn("First a");
+        loggerPlus.limited("a", 1, TimeUnit.HOURS).warn("Second a");
+        loggerPlus.limited("b", 1, TimeUnit.HOURS).warn("First b");
+        Mockito.verify(logger).warn("First a");
+        Mockito.verify(logger, Mockito.never()).warn("Second a");
+        Mockito.verify(logger).warn("First b");
+        assertEquals(1, loggerPlus.limited("b", 1, TimeUnit.HOURS).getSuppressedCount());
+    }
+
+    @Test
+    public void reportedWithoutFollowingMessage() {
+        var logger = enabledLogger();
+        var limited = new ThrottledLoggerPlus(new LoggerPlus(logger),
+                new ThrottledLoggerPlus.Key(null, 1, TimeUnit.HOURS, 1.0), TimeUnit.MILLISECONDS.toNanos(50));
+        for (var count = 0; count < 5; count++) {
+            limited.warn("Flood");
+        }
+        Mockito.verify(logger, Mockito.timeout(5000)).warn("Suppressed 4 log messages.");
+        assertEquals(4, limited.getSuppressedCount());
+    }
+
+    @Test
+    public void suppressedBeforeFormatting() {
+        var logger = enabledLogger();
+        var limited = new LoggerPlus(logger).limited(1, TimeUnit.HOURS);
+        var rendered = new int[1];
+        var value = new Object() {
+            @Override
+            public String toString() {
+                rendered[0]++;
+                return "value";
+            }
+        };
+        for (var count = 0; count < 5; count++) {
+            limited.warn("Formatted %s", value);
+            limited.warn(() -> "Supplied " + rendered[0]++);
+        }
+        assertEquals(2, rendered[0]);
+    }
+
+    @Test
+    public void disabledLevelNotCounted() {
+        var logger = enabledLogger();
+        var limited = new LoggerPlus(logger).limited(1, TimeUnit.HOURS);
+        limited.trace("Disabled");
+        assertEquals(0, limited.getSuppressedCount());
+    }
+
+    @Test
+    public void sampled() {
+        var logger = enabledLogger();
+        var loggerPlus = new LoggerPlus(logger);
+        for (var count = 0; count < 10; count++) {
+            loggerPlus.sampled(0.0).debug("Never");
+            loggerPlus.sampled(1.0).debug("Always");
+        }
+        Mockito.verify(logger, Mockito.never()).debug("Never");
+        Mockito.verify(logger, Mockito.times(10)).debug("Always");
+        assertEquals(10, loggerPlus.sampled(0.0).getSuppressedCount());
+    }
+
+    @Test
+    public void reused() {
+        var loggerPlus = new LoggerPlus(enabledLogger());
+        assertSame(loggerPlus.limited(10, TimeUnit.SECONDS), loggerPlus.limited(10, TimeUnit.SECONDS));
+        assertNotSame(loggerPlus.limited(10, TimeUnit.SECONDS), loggerPlus.limited(10, TimeUnit.MINUTES));
+    }
+
+    @Test
+    public void groupLogger() {
+        var logger = enabledLogger();
+        var limited = new LoggerPlus(logger).limited(1, TimeUnit.HOURS);
+        try (var gLOG = limited.groupLog("groupLogger", false)) {
+            gLOG.warn("Looping");
+            gLOG.warn("Looping");
+        }
+        Mockito.verify(logger, Mockito.times(1)).warn("groupLogger Looping");
+    }
+
+    @Test
+    public void invalidSettings() {
+        var loggerPlus = new LoggerPlus(enabledLogger());
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.limited(0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.limited(1, null));
+        assertThrows(IllegalArgumentException.class, () -> loggerPlus.sampled(2.0));
+    }
+}
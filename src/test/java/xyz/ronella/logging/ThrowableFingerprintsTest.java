@@ -0,0 +1,92 @@
+package xyz.ronella.logging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThrowableFingerprintsTest {
+
+    private static Exception[] failures(final String ... messages) {
+        var failures = new Exception[messages.length];
+        for (var index = 0; index < messages.length; index++) {
+            failures[index] = new IllegalStateException(messages[index]);
+        }
+        return failures;
+    }
+
+    @Test
+    public void sameFingerprint() {
+        var failures = failures("First", "Second");
+        var first = failures[0];
+        var second = failures[1];
+        assertEquals(ThrowableFingerprints.fingerprint(first), ThrowableFingerprints.fingerprint(second));
+        assertNotEquals(ThrowableFingerprints.fingerprint(first),
+                ThrowableFingerprints.fingerprint(new IllegalArgumentException()));
+    }
+
+    @Test
+    public void fullTraceOnce() {
+        var loggerPlus = new LoggerPlus(Mockito.mock(Logger.class)).fingerprinted(10, 1, TimeUnit.HOURS);
+        var failures = failures("First", "Second");
+        var first = loggerPlus.getStackTraceAsString(failures[0]);
+        var second = loggerPlus.getStackTraceAsString(failures[1]);
+        var id = ThrowableFingerprints.id(ThrowableFingerprints.fingerprint(failures[0]));
+        assertTrue(first.startsWith("[" + id + "] java.lang.IllegalStateException: First"));
+        assertTrue(first.contains("\tat "));
+        assertEquals("[" + id + "] java.lang.IllegalStateException: Second (occurrence 2, stack trace logged earlier)",
+                second);
+    }
+
+    @Test
+    public void throwablePassedOnce() {
+        var logger = Mockito.mock(Logger.class);
+        Mockito.when(logger.isErrorEnabled()).thenReturn(true);
+        var loggerPlus = new LoggerPlus(logger).fingerprinted(10, 1, TimeUnit.HOURS);
+        var failures = failures("First", "Second");
+        var id = ThrowableFingerprints.id(ThrowableFingerprints.fingerprint(failures[0]));
+        loggerPlus.error("Failed", failures[0]);
+        try (var gLOG = loggerPlus.groupLog("save", false)) {
+            gLOG.error(() -> "Failed", failures[1]);
+        }
+        Mockito.verify(logger).error("Failed [" + id + "]", failures[0]);
+        Mockito.verify(logger).error("save Failed [" + id + "] java.lang.IllegalStateException: Second"
+                + " (occurrence 2, stack trace logged earlier)");
+        Mockito.verify(logger, Mockito.never()).error(Mockito.anyString(), Mockito.eq(failures[1]));
+    }
+
+    @Test
+    public void expired() {
+        var fingerprints = new ThrowableFingerprints(10, 0, TimeUnit.NANOSECONDS);
+        assertEquals(1, fingerprints.occurred(1L));
+        assertEquals(1, fingerprints.occurred(1L));
+    }
+
+    @Test
+    public void leastRecentlySeenEvicted() {
+        var fingerprints = new ThrowableFingerprints(2, 1, TimeUnit.HOURS);
+        fingerprints.occurred(1L);
+        fingerprints.occurred(2L);
+        fingerprints.occurred(1L);
+        fingerprints.occurred(3L);
+        assertEquals(2, fingerprints.size());
+        assertEquals(3, fingerprints.occurred(1L));
+        assertEquals(1, fingerprints.occurred(2L));
+    }
+
+    @Test
+    public void circularCause() {
+        var first = new RuntimeException("First");
+        var second = new RuntimeException("Second", first);
+        first.initCause(second);
+        assertEquals(ThrowableFingerprints.fingerprint(first), ThrowableFingerprints.fingerprint(first));
+    }
+
+    @Test
+    public void nullThrowable() {
+        assertNull(new ThrowableFingerprints(1, 1, TimeUnit.HOURS).render(null, StackTraceRenderer.DEFAULT));
+    }
+}